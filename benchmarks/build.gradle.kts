@@ -0,0 +1,16 @@
+plugins {
+    id("disruptor.base-conventions")
+    alias(libs.plugins.jmh)
+}
+
+dependencies {
+    jmh(projects.disruptor.disruptorCore)
+}
+
+jmh {
+    jmhVersion = libs.versions.jmh
+    // Allocation rates are reported next to the timings so that regressions show up in review.
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+    (findProperty("jmhIncludes") as String?)?.let { includes = listOf(it) }
+}
@@ -0,0 +1,138 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.incendo.disruptor.DisruptorContext;
+import org.incendo.disruptor.trigger.DisruptionTrigger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of the counting triggers as the number of threads sharing a trigger grows.
+ * A trigger that scales linearly reports a throughput proportional to the thread count.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CountingTriggerBenchmark {
+
+    private static final DisruptorContext CONTEXT = DisruptorContext.of("group");
+
+    @Param
+    private Counting counting;
+
+    private DisruptionTrigger trigger;
+
+    /**
+     * Creates the trigger for the current {@link Counting} variant.
+     */
+    @Setup
+    public void setup() {
+        this.trigger = this.counting.trigger();
+    }
+
+    /**
+     * Evaluates the trigger from a single thread.
+     *
+     * @return whether the trigger activated
+     */
+    @Benchmark
+    @Threads(1)
+    public boolean threads1() {
+        return this.trigger.shouldTrigger(CONTEXT);
+    }
+
+    /**
+     * Evaluates the trigger from two threads.
+     *
+     * @return whether the trigger activated
+     */
+    @Benchmark
+    @Threads(2)
+    public boolean threads2() {
+        return this.trigger.shouldTrigger(CONTEXT);
+    }
+
+    /**
+     * Evaluates the trigger from four threads.
+     *
+     * @return whether the trigger activated
+     */
+    @Benchmark
+    @Threads(4)
+    public boolean threads4() {
+        return this.trigger.shouldTrigger(CONTEXT);
+    }
+
+    /**
+     * Evaluates the trigger from as many threads as there are available processors.
+     *
+     * @return whether the trigger activated
+     */
+    @Benchmark
+    @Threads(Threads.MAX)
+    public boolean threadsMax() {
+        return this.trigger.shouldTrigger(CONTEXT);
+    }
+
+    /**
+     * The counting triggers that are benchmarked.
+     */
+    public enum Counting {
+        /**
+         * {@link DisruptionTrigger#counting(int)}.
+         */
+        EXACT {
+            @Override
+            DisruptionTrigger trigger() {
+                return DisruptionTrigger.counting(1_000);
+            }
+        },
+        /**
+         * {@link DisruptionTrigger#approximateCounting(int)}.
+         */
+        APPROXIMATE {
+            @Override
+            DisruptionTrigger trigger() {
+                return DisruptionTrigger.approximateCounting(1_000);
+            }
+        };
+
+        abstract DisruptionTrigger trigger();
+    }
+}
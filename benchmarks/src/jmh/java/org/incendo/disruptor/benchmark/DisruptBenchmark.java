@@ -0,0 +1,185 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.incendo.disruptor.DisruptionMode;
+import org.incendo.disruptor.Disruptor;
+import org.incendo.disruptor.DisruptorBuilder;
+import org.incendo.disruptor.DisruptorHandle;
+import org.incendo.disruptor.trigger.DisruptionTrigger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of the {@link Disruptor} entry points when no disruption takes place, which is the
+ * cost paid by every call in a service that has the disruptor wired in but switched off.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DisruptBenchmark {
+
+    private static final String GROUP = "group";
+    private static final int CONFIG_COUNT = 32;
+    private static final Supplier<Object> SUPPLIER = () -> GROUP;
+    private static final Runnable RUNNABLE = () -> {
+    };
+
+    @Param
+    private Scenario scenario;
+
+    private Disruptor disruptor;
+    private DisruptorHandle handle;
+
+    /**
+     * Builds the disruptor for the current {@link Scenario}.
+     */
+    @Setup
+    public void setup() {
+        this.disruptor = this.scenario.disruptor();
+        this.handle = this.disruptor.handle(GROUP);
+    }
+
+    /**
+     * Benchmarks {@link Disruptor#disrupt(String, Supplier)}.
+     *
+     * @return the supplied result
+     */
+    @Benchmark
+    public Object disruptSupplier() {
+        return this.disruptor.disrupt(GROUP, SUPPLIER);
+    }
+
+    /**
+     * Benchmarks {@link Disruptor#disrupt(String, DisruptionMode)} for both modes, as the integrations do.
+     */
+    @Benchmark
+    public void disruptMode() {
+        this.disruptor.disrupt(GROUP, DisruptionMode.BEFORE);
+        this.disruptor.disrupt(GROUP, DisruptionMode.AFTER);
+    }
+
+    /**
+     * Benchmarks {@link Disruptor#disruptWithoutResult(String, Runnable)}.
+     */
+    @Benchmark
+    public void disruptWithoutResult() {
+        this.disruptor.disruptWithoutResult(GROUP, RUNNABLE);
+    }
+
+    /**
+     * Benchmarks {@link DisruptorHandle#disrupt(Supplier)} using a pre-resolved handle.
+     *
+     * @return the supplied result
+     */
+    @Benchmark
+    public Object handleSupplier() {
+        return this.handle.disrupt(SUPPLIER);
+    }
+
+    /**
+     * Benchmarks {@link DisruptorHandle#before()} and {@link DisruptorHandle#after()} using a pre-resolved handle.
+     */
+    @Benchmark
+    public void handleMode() {
+        this.handle.before();
+        this.handle.after();
+    }
+
+    /**
+     * The disruptor configurations that are benchmarked.
+     */
+    public enum Scenario {
+        /**
+         * The disrupted group is not configured.
+         */
+        UNKNOWN_GROUP {
+            @Override
+            Disruptor disruptor() {
+                return Disruptor.builder()
+                        .group("other", group -> group.config(DisruptionTrigger.never(), config -> {}))
+                        .build();
+            }
+        },
+        /**
+         * The group has a single config in each mode, neither of which ever triggers.
+         */
+        NEVER_TRIGGER {
+            @Override
+            Disruptor disruptor() {
+                return Disruptor.builder()
+                        .group(
+                                GROUP,
+                                group -> group
+                                        .config(DisruptionTrigger.never(), config -> config.mode(DisruptionMode.BEFORE))
+                                        .config(DisruptionTrigger.never(), config -> config.mode(DisruptionMode.AFTER))
+                        )
+                        .build();
+            }
+        },
+        /**
+         * The group has many configs, spread over both modes, none of which ever triggers.
+         */
+        MANY_CONFIGS {
+            @Override
+            Disruptor disruptor() {
+                final DisruptorBuilder builder = Disruptor.builder();
+                builder.group(GROUP, group -> {
+                    for (int i = 0; i < CONFIG_COUNT; i++) {
+                        final DisruptionMode mode = i % 2 == 0 ? DisruptionMode.BEFORE : DisruptionMode.AFTER;
+                        group.config(DisruptionTrigger.never(), config -> config.mode(mode));
+                    }
+                });
+                return builder.build();
+            }
+        },
+        /**
+         * The group has many configs, but the disruptor is disabled.
+         */
+        DISABLED {
+            @Override
+            Disruptor disruptor() {
+                final Disruptor disruptor = MANY_CONFIGS.disruptor();
+                disruptor.enabled(false);
+                return disruptor;
+            }
+        };
+
+        abstract Disruptor disruptor();
+    }
+}
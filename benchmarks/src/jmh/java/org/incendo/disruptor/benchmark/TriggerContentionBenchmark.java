@@ -0,0 +1,128 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.benchmark;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.incendo.disruptor.DisruptionMode;
+import org.incendo.disruptor.Disruptor;
+import org.incendo.disruptor.trigger.DisruptionTrigger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how the stateful triggers behave when a single group is disrupted from many threads at once.
+ *
+ * <p>The configs have no disruptions, so the numbers only contain the dispatch and trigger evaluation cost.
+ * Run with {@code -t <threads>} to chart the scaling between the single-threaded and the fully contended case.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TriggerContentionBenchmark {
+
+    private static final String GROUP = "group";
+
+    @Param
+    private TriggerType trigger;
+
+    private Disruptor disruptor;
+
+    /**
+     * Builds a disruptor with a single config using the current {@link TriggerType}.
+     */
+    @Setup
+    public void setup() {
+        final DisruptionTrigger trigger = this.trigger.trigger();
+        this.disruptor = Disruptor.builder()
+                .group(GROUP, group -> group.config(trigger, config -> config.mode(DisruptionMode.BEFORE)))
+                .build();
+    }
+
+    /**
+     * Evaluates the trigger from a single thread.
+     */
+    @Benchmark
+    @Threads(1)
+    public void uncontended() {
+        this.disruptor.disrupt(GROUP, DisruptionMode.BEFORE);
+    }
+
+    /**
+     * Evaluates the trigger from as many threads as there are available processors.
+     */
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void contended() {
+        this.disruptor.disrupt(GROUP, DisruptionMode.BEFORE);
+    }
+
+    /**
+     * The triggers that are benchmarked.
+     */
+    public enum TriggerType {
+        /**
+         * {@link DisruptionTrigger#counting(int)}.
+         */
+        COUNTING {
+            @Override
+            DisruptionTrigger trigger() {
+                return DisruptionTrigger.counting(1_000);
+            }
+        },
+        /**
+         * {@link DisruptionTrigger#lasting(Duration)}, which keeps opening short windows.
+         */
+        LASTING {
+            @Override
+            DisruptionTrigger trigger() {
+                return DisruptionTrigger.counting(1_000).lasting(Duration.ofMillis(1L));
+            }
+        },
+        /**
+         * {@link DisruptionTrigger#limiting(int, Duration)}, which keeps exhausting its limit.
+         */
+        LIMITING {
+            @Override
+            DisruptionTrigger trigger() {
+                return DisruptionTrigger.counting(1_000).limiting(10, Duration.ofMillis(10L));
+            }
+        };
+
+        abstract DisruptionTrigger trigger();
+    }
+}
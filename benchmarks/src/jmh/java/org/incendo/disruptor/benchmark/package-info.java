@@ -0,0 +1,4 @@
+@NullMarked
+package org.incendo.disruptor.benchmark;
+
+import org.jspecify.annotations.NullMarked;
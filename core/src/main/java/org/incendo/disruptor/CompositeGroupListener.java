@@ -0,0 +1,77 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Group listener that forwards to multiple listeners.
+ *
+ * @param listeners the listeners
+ * @since 1.0.0
+ */
+@API(status = API.Status.INTERNAL, since = "1.0.0")
+record CompositeGroupListener(GroupListener[] listeners) implements GroupListener {
+
+    @Override
+    public void evaluated(final int config, final boolean triggered) {
+        for (final GroupListener listener : this.listeners) {
+            listener.evaluated(config, triggered);
+        }
+    }
+
+    @Override
+    public void disrupted(final int config, final int disruption, final long durationNanos, final @Nullable Throwable failure) {
+        for (final GroupListener listener : this.listeners) {
+            listener.disrupted(config, disruption, durationNanos, failure);
+        }
+    }
+
+    @Override
+    public Object disrupting(final int config, final int disruption) {
+        final @Nullable Object[] states = new Object[this.listeners.length];
+        for (int i = 0; i < this.listeners.length; i++) {
+            states[i] = this.listeners[i].disrupting(config, disruption);
+        }
+        return states;
+    }
+
+    @Override
+    public void disrupted(
+            final int config,
+            final int disruption,
+            final long durationNanos,
+            final @Nullable Throwable failure,
+            final @Nullable Object state
+    ) {
+        if (!(state instanceof Object[] states)) {
+            this.disrupted(config, disruption, durationNanos, failure);
+            return;
+        }
+        for (int i = 0; i < this.listeners.length; i++) {
+            this.listeners[i].disrupted(config, disruption, durationNanos, failure, states[i]);
+        }
+    }
+}
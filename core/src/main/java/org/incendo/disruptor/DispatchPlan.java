@@ -0,0 +1,259 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import org.apiguardian.api.API;
+import org.incendo.disruptor.disruption.Disruption;
+import org.incendo.disruptor.trigger.DisruptionTrigger;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The configurations of a {@link DisruptorGroup}, compiled into flat arrays per {@link DisruptionMode}
+ * so that dispatching a mode is a plain indexed loop.
+ *
+ * <p>Plans are shared by every disruptor that the group is added to, so the {@link GroupListener} is passed in
+ * on each dispatch. Dispatches without a listener skip the instrumentation entirely.</p>
+ *
+ * @since 1.0.0
+ */
+@API(status = API.Status.INTERNAL, since = "1.0.0")
+final class DispatchPlan {
+
+    /**
+     * Stage returned when there is nothing to wait for. It cannot be completed by the consumers, so it can be shared.
+     */
+    static final CompletionStage<Void> COMPLETED = CompletableFuture.completedStage(null);
+
+    private final Stage before;
+    private final Stage after;
+
+    private DispatchPlan(final Stage before, final Stage after) {
+        this.before = before;
+        this.after = after;
+    }
+
+    /**
+     * Compiles the given {@code configurations} into a dispatch plan.
+     *
+     * @param configurations configurations, in the order they should be evaluated
+     * @return the plan
+     */
+    static DispatchPlan compile(final List<DisruptionConfig> configurations) {
+        return new DispatchPlan(
+                Stage.compile(configurations, DisruptionMode.BEFORE),
+                Stage.compile(configurations, DisruptionMode.AFTER)
+        );
+    }
+
+    /**
+     * Returns the dispatch plan for the given {@code group}, compiling it if the group was not built
+     * by a {@link DisruptorGroupBuilder}.
+     *
+     * @param group group
+     * @return the plan
+     */
+    static DispatchPlan of(final DisruptorGroup group) {
+        if (group instanceof DisruptorGroupImpl groupImpl) {
+            return groupImpl.plan();
+        }
+        return compile(group.configurations());
+    }
+
+    /**
+     * Evaluates the triggers of the configurations with the given {@code mode}, and invokes the disruptions
+     * of the configurations that trigger.
+     *
+     * @param context  context
+     * @param mode     mode
+     * @param listener listener to notify, or {@code null}
+     */
+    void trigger(final DisruptorContext context, final DisruptionMode mode, final @Nullable GroupListener listener) {
+        final Stage stage = mode == DisruptionMode.BEFORE ? this.before : this.after;
+        if (listener == null) {
+            stage.trigger(context);
+        } else {
+            stage.trigger(context, listener);
+        }
+    }
+
+    /**
+     * Like {@link #trigger(DisruptorContext, DisruptionMode, GroupListener)}, but the disruptions are invoked using
+     * {@link Disruption#triggerAsync(DisruptorContext)}. Each disruption starts once the previous one is over, and the
+     * trigger of a configuration is evaluated once the disruptions of the previous configuration are over.
+     *
+     * @param context  context
+     * @param mode     mode
+     * @param listener listener to notify, or {@code null}
+     * @return stage that completes once all disruptions are over
+     */
+    CompletionStage<Void> triggerAsync(
+            final DisruptorContext context,
+            final DisruptionMode mode,
+            final @Nullable GroupListener listener
+    ) {
+        final Stage stage = mode == DisruptionMode.BEFORE ? this.before : this.after;
+        try {
+            return stage.triggerAsync(context, listener, 0);
+        } catch (final RuntimeException exception) {
+            return CompletableFuture.failedStage(exception);
+        }
+    }
+
+    private static final class Stage {
+
+        private final DisruptionTrigger[] triggers;
+        private final Disruption[] disruptions;
+        // The disruptions of triggers[i] are disruptions[offsets[i]] until disruptions[offsets[i + 1]].
+        private final int[] offsets;
+        // The index of the configuration of triggers[i] in the group, which is what listeners are notified with.
+        private final int[] configs;
+
+        private Stage(
+                final DisruptionTrigger[] triggers,
+                final Disruption[] disruptions,
+                final int[] offsets,
+                final int[] configs
+        ) {
+            this.triggers = triggers;
+            this.disruptions = disruptions;
+            this.offsets = offsets;
+            this.configs = configs;
+        }
+
+        private static Stage compile(final List<DisruptionConfig> configurations, final DisruptionMode mode) {
+            final List<DisruptionTrigger> triggers = new ArrayList<>();
+            final List<Disruption> disruptions = new ArrayList<>();
+            final List<Integer> offsets = new ArrayList<>();
+            final List<Integer> configs = new ArrayList<>();
+            offsets.add(0);
+
+            for (int i = 0; i < configurations.size(); i++) {
+                final DisruptionConfig configuration = configurations.get(i);
+                if (configuration.mode() != mode) {
+                    continue;
+                }
+                triggers.add(configuration.trigger());
+                disruptions.addAll(configuration.disruptions());
+                offsets.add(disruptions.size());
+                configs.add(i);
+            }
+
+            return new Stage(
+                    triggers.toArray(DisruptionTrigger[]::new),
+                    disruptions.toArray(Disruption[]::new),
+                    offsets.stream().mapToInt(Integer::intValue).toArray(),
+                    configs.stream().mapToInt(Integer::intValue).toArray()
+            );
+        }
+
+        private CompletionStage<Void> triggerAsync(
+                final DisruptorContext context,
+                final @Nullable GroupListener listener,
+                final int from
+        ) {
+            for (int i = from; i < this.triggers.length; i++) {
+                final boolean triggered = this.triggers[i].shouldTrigger(context);
+                if (listener != null) {
+                    listener.evaluated(this.configs[i], triggered);
+                }
+                if (!triggered) {
+                    continue;
+                }
+                final int next = i + 1;
+                return this.disruptAsync(context, listener, i, this.offsets[i])
+                        .thenCompose(ignored -> this.triggerAsync(context, listener, next));
+            }
+            return COMPLETED;
+        }
+
+        private CompletionStage<Void> disruptAsync(
+                final DisruptorContext context,
+                final @Nullable GroupListener listener,
+                final int trigger,
+                final int disruption
+        ) {
+            if (disruption == this.offsets[trigger + 1]) {
+                return COMPLETED;
+            }
+            final int config = this.configs[trigger];
+            final int index = disruption - this.offsets[trigger];
+            final @Nullable Object state = listener == null ? null : listener.disrupting(config, index);
+            final long start = listener == null ? 0L : System.nanoTime();
+            CompletionStage<Void> stage;
+            try {
+                stage = this.disruptions[disruption].triggerAsync(context);
+            } catch (final RuntimeException exception) {
+                stage = CompletableFuture.failedStage(exception);
+            }
+            if (listener != null) {
+                stage = stage.whenComplete((ignored, throwable) -> listener.disrupted(
+                        config,
+                        index,
+                        System.nanoTime() - start,
+                        throwable,
+                        state
+                ));
+            }
+            return stage.thenCompose(ignored -> this.disruptAsync(context, listener, trigger, disruption + 1));
+        }
+
+        private void trigger(final DisruptorContext context) {
+            for (int i = 0; i < this.triggers.length; i++) {
+                if (!this.triggers[i].shouldTrigger(context)) {
+                    continue;
+                }
+                for (int j = this.offsets[i]; j < this.offsets[i + 1]; j++) {
+                    this.disruptions[j].trigger(context);
+                }
+            }
+        }
+
+        private void trigger(final DisruptorContext context, final GroupListener listener) {
+            for (int i = 0; i < this.triggers.length; i++) {
+                final boolean triggered = this.triggers[i].shouldTrigger(context);
+                listener.evaluated(this.configs[i], triggered);
+                if (!triggered) {
+                    continue;
+                }
+                for (int j = this.offsets[i]; j < this.offsets[i + 1]; j++) {
+                    final int index = j - this.offsets[i];
+                    final @Nullable Object state = listener.disrupting(this.configs[i], index);
+                    final long start = System.nanoTime();
+                    try {
+                        this.disruptions[j].trigger(context);
+                    } catch (final Throwable throwable) {
+                        // Errors and sneaky thrown checked exceptions are reported too, and rethrown as they are.
+                        listener.disrupted(this.configs[i], index, System.nanoTime() - start, throwable, state);
+                        throw throwable;
+                    }
+                    listener.disrupted(this.configs[i], index, System.nanoTime() - start, null, state);
+                }
+            }
+        }
+    }
+}
@@ -29,8 +29,10 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import org.apiguardian.api.API;
 import org.incendo.disruptor.disruption.Disruption;
+import org.incendo.disruptor.disruption.LatencyDistribution;
 import org.incendo.disruptor.trigger.DisruptionTrigger;
 
 @API(status = API.Status.STABLE, since = "1.0.0")
@@ -94,6 +96,36 @@ public final class DisruptionConfigBuilder {
         return this.disruptions(Disruption.delaying(duration));
     }
 
+    /**
+     * Adds a {@link Disruption#delaying(LatencyDistribution)} disruption.
+     *
+     * @param distribution distribution to sample the delay from
+     * @return {@code this}
+     */
+    public DisruptionConfigBuilder delay(final LatencyDistribution distribution) {
+        return this.disruptions(Disruption.delaying(distribution));
+    }
+
+    /**
+     * Adds a {@link Disruption#delayingPrecisely(Duration)} disruption.
+     *
+     * @param duration delay duration
+     * @return {@code this}
+     */
+    public DisruptionConfigBuilder delayPrecisely(final Duration duration) {
+        return this.disruptions(Disruption.delayingPrecisely(duration));
+    }
+
+    /**
+     * Adds a {@link Disruption#delayingPrecisely(LatencyDistribution)} disruption.
+     *
+     * @param distribution distribution to sample the delay from
+     * @return {@code this}
+     */
+    public DisruptionConfigBuilder delayPrecisely(final LatencyDistribution distribution) {
+        return this.disruptions(Disruption.delayingPrecisely(distribution));
+    }
+
     /**
      * Adds a {@link Disruption#throwing(Function)} disruption.
      *
@@ -104,6 +136,48 @@ public final class DisruptionConfigBuilder {
         return this.disruptions(Disruption.throwing(generator));
     }
 
+    /**
+     * Adds a {@link Disruption#throwingStackless(String)} disruption.
+     *
+     * @param message exception message
+     * @return {@code this}
+     */
+    public DisruptionConfigBuilder throwStackless(final String message) {
+        return this.disruptions(Disruption.throwingStackless(message));
+    }
+
+    /**
+     * Adds a {@link Disruption#throwingStackless(String, int)} disruption.
+     *
+     * @param message         exception message
+     * @param stackTraceEvery how often a stack trace should be captured, or {@code 0} to never capture one
+     * @return {@code this}
+     */
+    public DisruptionConfigBuilder throwStackless(final String message, final int stackTraceEvery) {
+        return this.disruptions(Disruption.throwingStackless(message, stackTraceEvery));
+    }
+
+    /**
+     * Adds a {@link Disruption#throwingStackless(Supplier)} disruption.
+     *
+     * @param factory factory that creates the exception
+     * @return {@code this}
+     */
+    public DisruptionConfigBuilder throwStackless(final Supplier<? extends Throwable> factory) {
+        return this.disruptions(Disruption.throwingStackless(factory));
+    }
+
+    /**
+     * Adds a {@link Disruption#throwingStackless(Supplier, int)} disruption.
+     *
+     * @param factory         factory that creates the exception
+     * @param stackTraceEvery how often a stack trace should be captured, or {@code 0} to never capture one
+     * @return {@code this}
+     */
+    public DisruptionConfigBuilder throwStackless(final Supplier<? extends Throwable> factory, final int stackTraceEvery) {
+        return this.disruptions(Disruption.throwingStackless(factory, stackTraceEvery));
+    }
+
     /**
      * Sets the disruption mode to the given {@code mode}.
      *
@@ -37,4 +37,32 @@ public final class DisruptionException extends RuntimeException {
     public DisruptionException(final Throwable cause) {
         super(cause);
     }
+
+    /**
+     * Creates a new disruption exception with the given {@code message}.
+     *
+     * <p>Exceptions without a writable stack trace are cheap to create and may be thrown repeatedly, as the stack
+     * trace is never filled in and suppressed exceptions are never recorded.</p>
+     *
+     * @param message            exception message
+     * @param writableStackTrace whether the stack trace should be filled in
+     * @since 1.0.0
+     */
+    public DisruptionException(final String message, final boolean writableStackTrace) {
+        super(message, null /* cause */, false /* enableSuppression */, writableStackTrace);
+    }
+
+    /**
+     * Creates a new disruption exception wrapping the given {@code cause}.
+     *
+     * <p>Exceptions without a writable stack trace are cheap to create and may be thrown repeatedly, as the stack
+     * trace is never filled in and suppressed exceptions are never recorded.</p>
+     *
+     * @param cause              cause of the exception
+     * @param writableStackTrace whether the stack trace should be filled in
+     * @since 1.0.0
+     */
+    public DisruptionException(final Throwable cause, final boolean writableStackTrace) {
+        super(cause.toString(), cause, false /* enableSuppression */, writableStackTrace);
+    }
 }
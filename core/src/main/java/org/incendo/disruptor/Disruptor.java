@@ -23,13 +23,17 @@
 //
 package org.incendo.disruptor;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Supplier;
 import org.apiguardian.api.API;
 
 /**
  * The disruptor contains the configuration used by the Incendo Disruptor library.
- * The configuration is immutable and may not be modified once it has been constructed.
+ * The configuration is immutable and may not be modified once it has been constructed, unless the disruptor was built
+ * using {@link DisruptorBuilder#buildReloadable()}. The disruptor as a whole may be switched on and off at runtime using
+ * {@link #enabled(boolean)}.
  *
  * <p><b>Note:</b> This interface should not be implemented. An instance should be built using {@link #builder()}.</p>
  *
@@ -64,6 +68,36 @@ public interface Disruptor {
      */
     Optional<DisruptorGroup> group(String name);
 
+    /**
+     * Returns a handle to the group identified by the given {@code name}. The handle may be stored and reused
+     * for every invocation, which avoids looking up the group on each call.
+     *
+     * <p>If the group does not exist, the returned handle will not trigger any disruptions, unless the group is added
+     * by {@link ReloadableDisruptor#reload(Map)}.</p>
+     *
+     * @param name group name
+     * @return the handle
+     */
+    DisruptorHandle handle(String name);
+
+    /**
+     * Returns whether the disruptor is enabled.
+     *
+     * @return {@code true} if the disruptor is enabled, else {@code false}
+     */
+    boolean enabled();
+
+    /**
+     * Enables or disables the disruptor. While the disruptor is disabled, no triggers are evaluated and no
+     * disruptions take place, which reduces the cost of each invocation to close to nothing.
+     *
+     * <p>The change applies to all invocations that start after this method returns, including invocations using
+     * handles that have already been resolved.</p>
+     *
+     * @param enabled whether the disruptor should be enabled
+     */
+    void enabled(boolean enabled);
+
     /**
      * Runs the given {@code supplier}, invoking any relevant disruptions before and after.
      * If a disruption throws an exception, it'll be propagated and the execution will terminate.
@@ -114,17 +148,38 @@ public interface Disruptor {
          ));
     }
 
+    /**
+     * Runs the given asynchronous {@code supplier}, invoking any relevant disruptions before it is invoked and after
+     * the stage it returns has completed. Delays are scheduled on a shared timer instead of blocking a thread, and
+     * failures complete the returned stage exceptionally.
+     *
+     * @param group    disruptor group
+     * @param supplier supplier of the stage to disrupt
+     * @return stage that completes with the result of the supplied stage, once the disruptions are over
+     * @param <T> result type
+     * @see DisruptorHandle#disruptAsync(Supplier)
+     */
+    default <T> CompletionStage<T> disruptAsync(final String group, final Supplier<? extends CompletionStage<T>> supplier) {
+        return this.handle(group).disruptAsync(supplier);
+    }
+
+    /**
+     * Triggers the disruptions for the given {@code group} and {@code mode} without blocking.
+     *
+     * @param group disruption group to trigger
+     * @param mode  mode to trigger
+     * @return stage that completes once the disruptions are over
+     */
+    default CompletionStage<Void> disruptAsync(final String group, final DisruptionMode mode) {
+        return this.handle(group).disruptAsync(mode);
+    }
+
     private void triggerDisruptions(
             final DisruptorContext context,
             final DisruptorGroup group,
             final DisruptionMode mode
     ) {
-        group.configurations()
-                .stream()
-                .filter(config -> config.mode() == mode)
-                .filter(config -> config.trigger().shouldTrigger(context))
-                .flatMap(config -> config.disruptions().stream())
-                .forEach(disruption -> disruption.trigger(context));
+        DispatchPlan.of(group).trigger(context, mode, null);
     }
 
 }
@@ -23,11 +23,14 @@
 //
 package org.incendo.disruptor;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Consumer;
 import org.apiguardian.api.API;
+import org.incendo.disruptor.clock.DisruptionClock;
 
 /**
  * Builder for {@link Disruptor} instances. The builder should be constructed using {@link Disruptor#builder()}.
@@ -38,6 +41,9 @@ import org.apiguardian.api.API;
 public final class DisruptorBuilder {
 
     private final Map<String, DisruptorGroup> groups = new HashMap<>();
+    private final List<DisruptorListener> listeners = new ArrayList<>();
+    private boolean enabled = true;
+    private DisruptionClock clock = DisruptionClock.system();
 
     DisruptorBuilder() {
     }
@@ -82,14 +88,59 @@ public final class DisruptorBuilder {
         return this.group(name, builder.build());
     }
 
+    /**
+     * Sets whether the disruptor is initially enabled. The disruptor is enabled by default.
+     *
+     * @param enabled whether the disruptor is enabled
+     * @return {@code this}
+     * @see Disruptor#enabled(boolean)
+     */
+    public DisruptorBuilder enabled(final boolean enabled) {
+        this.enabled = enabled;
+        return this;
+    }
+
+    /**
+     * Adds the given {@code listener} to the disruptor instance.
+     *
+     * @param listener listener
+     * @return {@code this}
+     * @see org.incendo.disruptor.metrics.DisruptorMetrics
+     */
+    public DisruptorBuilder listener(final DisruptorListener listener) {
+        Objects.requireNonNull(listener, "listener");
+        this.listeners.add(listener);
+        return this;
+    }
+
+    /**
+     * Sets the clock of the time-based triggers. The disruptor uses {@link DisruptionClock#system()} by default.
+     *
+     * @param clock clock
+     * @return {@code this}
+     * @see DisruptorContext#clock()
+     */
+    public DisruptorBuilder clock(final DisruptionClock clock) {
+        this.clock = Objects.requireNonNull(clock, "clock");
+        return this;
+    }
+
     /**
      * Build a new {@link Disruptor} instance using {@code this} builder.
      *
      * @return the disruptor instance
      */
     public Disruptor build() {
-        return new DisruptorImpl(
-                Map.copyOf(this.groups)
-        );
+        return DisruptorImpl.of(this.groups, this.enabled, List.copyOf(this.listeners), this.clock);
+    }
+
+    /**
+     * Build a new {@link ReloadableDisruptor} instance using {@code this} builder. The groups added to the builder
+     * are the initial groups of the disruptor.
+     *
+     * @return the disruptor instance
+     */
+    public ReloadableDisruptor buildReloadable() {
+        return DisruptorImpl.of(this.groups, this.enabled, List.copyOf(this.listeners), this.clock);
     }
 }
@@ -25,7 +25,16 @@ package org.incendo.disruptor;
 
 import java.util.Objects;
 import org.apiguardian.api.API;
+import org.incendo.disruptor.clock.DisruptionClock;
 
+/**
+ * The context that triggers and disruptions are invoked with.
+ *
+ * <p>Contexts are immutable. A {@link Disruptor} shares a single context between all invocations of a group,
+ * so implementations must not rely on receiving a new instance per invocation.</p>
+ *
+ * @since 1.0.0
+ */
 @API(status = API.Status.STABLE, since = "1.0.0")
 public interface DisruptorContext {
 
@@ -36,8 +45,20 @@ public interface DisruptorContext {
      * @return the context instance
      */
     static DisruptorContext of(final String group) {
+        return of(group, DisruptionClock.system());
+    }
+
+    /**
+     * Returns a new {@link DisruptorContext} using the given {@code clock}.
+     *
+     * @param group group
+     * @param clock clock of the time-based triggers
+     * @return the context instance
+     */
+    static DisruptorContext of(final String group, final DisruptionClock clock) {
         Objects.requireNonNull(group, "group");
-        return new DisruptorContextImpl(group);
+        Objects.requireNonNull(clock, "clock");
+        return new DisruptorContextImpl(group, clock);
     }
 
     /**
@@ -46,4 +67,14 @@ public interface DisruptorContext {
      * @return disruptor group name
      */
     String group();
+
+    /**
+     * Returns the clock that time-based triggers should use. The default implementation returns
+     * {@link DisruptionClock#system()}.
+     *
+     * @return the clock
+     */
+    default DisruptionClock clock() {
+        return DisruptionClock.system();
+    }
 }
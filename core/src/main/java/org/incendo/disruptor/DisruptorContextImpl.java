@@ -24,10 +24,12 @@
 package org.incendo.disruptor;
 
 import org.apiguardian.api.API;
+import org.incendo.disruptor.clock.DisruptionClock;
 
 @API(status = API.Status.INTERNAL, since = "1.0.0")
 record DisruptorContextImpl(
-        String group
+        String group,
+        DisruptionClock clock
 ) implements DisruptorContext {
 
 }
@@ -30,11 +30,16 @@ import org.apiguardian.api.API;
  * The main {@link DisruptorGroup} implementation.
  *
  * @param configurations group configurations
+ * @param plan           the configurations compiled into a dispatch plan
  * @since 1.0.0
  */
 @API(status = API.Status.INTERNAL, since = "1.0.0")
 record DisruptorGroupImpl(
-        List<DisruptionConfig> configurations
+        List<DisruptionConfig> configurations,
+        DispatchPlan plan
 ) implements DisruptorGroup {
 
+    DisruptorGroupImpl(final List<DisruptionConfig> configurations) {
+        this(configurations, DispatchPlan.compile(configurations));
+    }
 }
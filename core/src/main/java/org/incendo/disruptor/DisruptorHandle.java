@@ -0,0 +1,127 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+import org.apiguardian.api.API;
+
+/**
+ * A handle to a single group of a {@link Disruptor}.
+ *
+ * <p>Handles are resolved once using {@link Disruptor#handle(String)}, and may then be reused for every invocation.
+ * This avoids looking up the group on each call, which makes handles the preferred way to disrupt hot paths.
+ * A handle for a group that does not exist does nothing.</p>
+ *
+ * <p><b>Note:</b> This interface should not be implemented. An instance should be retrieved using
+ * {@link Disruptor#handle(String)}.</p>
+ *
+ * @since 1.0.0
+ */
+@API(status = API.Status.STABLE, since = "1.0.0")
+public interface DisruptorHandle {
+
+    /**
+     * Returns the name of the group that the handle is bound to.
+     *
+     * @return group name
+     */
+    String group();
+
+    /**
+     * Runs the given {@code supplier}, invoking any relevant disruptions before and after.
+     * If a disruption throws an exception, it'll be propagated and the execution will terminate.
+     *
+     * @param supplier result supplier
+     * @return the result
+     * @param <T> result type
+     */
+    <T> T disrupt(Supplier<T> supplier);
+
+    /**
+     * Like {@link #disrupt(Supplier)} but without returning a result.
+     *
+     * @param runnable runnable to wrap
+     */
+    void disruptWithoutResult(Runnable runnable);
+
+    /**
+     * Triggers the disruptions for the given {@code mode}.
+     *
+     * @param mode mode to trigger
+     */
+    void disrupt(DisruptionMode mode);
+
+    /**
+     * Triggers the {@link DisruptionMode#BEFORE} disruptions.
+     */
+    default void before() {
+        this.disrupt(DisruptionMode.BEFORE);
+    }
+
+    /**
+     * Triggers the {@link DisruptionMode#AFTER} disruptions.
+     */
+    default void after() {
+        this.disrupt(DisruptionMode.AFTER);
+    }
+
+    /**
+     * Runs the given asynchronous {@code supplier}, invoking any relevant disruptions before it is invoked and after
+     * the stage it returns has completed. The disruptions are invoked using
+     * {@link org.incendo.disruptor.disruption.Disruption#triggerAsync(DisruptorContext)}, so delays do not block
+     * any thread. If a disruption fails, the returned stage completes exceptionally.
+     *
+     * @param supplier supplier of the stage to disrupt
+     * @return stage that completes with the result of the supplied stage, once the disruptions are over
+     * @param <T> result type
+     */
+    <T> CompletionStage<T> disruptAsync(Supplier<? extends CompletionStage<T>> supplier);
+
+    /**
+     * Triggers the disruptions for the given {@code mode} without blocking.
+     *
+     * @param mode mode to trigger
+     * @return stage that completes once the disruptions are over
+     */
+    CompletionStage<Void> disruptAsync(DisruptionMode mode);
+
+    /**
+     * Triggers the {@link DisruptionMode#BEFORE} disruptions without blocking.
+     *
+     * @return stage that completes once the disruptions are over
+     */
+    default CompletionStage<Void> beforeAsync() {
+        return this.disruptAsync(DisruptionMode.BEFORE);
+    }
+
+    /**
+     * Triggers the {@link DisruptionMode#AFTER} disruptions without blocking.
+     *
+     * @return stage that completes once the disruptions are over
+     */
+    default CompletionStage<Void> afterAsync() {
+        return this.disruptAsync(DisruptionMode.AFTER);
+    }
+}
@@ -0,0 +1,104 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor;
+
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+import org.apiguardian.api.API;
+
+/**
+ * The main {@link DisruptorHandle} implementation.
+ *
+ * @since 1.0.0
+ */
+@API(status = API.Status.INTERNAL, since = "1.0.0")
+final class DisruptorHandleImpl implements DisruptorHandle {
+
+    private final String group;
+    private volatile GroupBinding binding;
+
+    DisruptorHandleImpl(final String group, final GroupBinding binding) {
+        this.group = Objects.requireNonNull(group, "group");
+        this.binding = Objects.requireNonNull(binding, "binding");
+    }
+
+    @Override
+    public String group() {
+        return this.group;
+    }
+
+    /**
+     * Returns the binding of the group.
+     *
+     * @return the binding
+     */
+    GroupBinding binding() {
+        return this.binding;
+    }
+
+    /**
+     * Replaces the binding of the group. Invocations that are in progress will finish using the previous binding.
+     *
+     * @param binding the new binding
+     */
+    void bind(final GroupBinding binding) {
+        this.binding = Objects.requireNonNull(binding, "binding");
+    }
+
+    @Override
+    public <T> T disrupt(final Supplier<T> supplier) {
+        final GroupBinding binding = this.binding;
+        binding.trigger(DisruptionMode.BEFORE);
+        final T result = supplier.get();
+        binding.trigger(DisruptionMode.AFTER);
+        return result;
+    }
+
+    @Override
+    public void disruptWithoutResult(final Runnable runnable) {
+        final GroupBinding binding = this.binding;
+        binding.trigger(DisruptionMode.BEFORE);
+        runnable.run();
+        binding.trigger(DisruptionMode.AFTER);
+    }
+
+    @Override
+    public void disrupt(final DisruptionMode mode) {
+        this.binding.trigger(mode);
+    }
+
+    @Override
+    public <T> CompletionStage<T> disruptAsync(final Supplier<? extends CompletionStage<T>> supplier) {
+        final GroupBinding binding = this.binding;
+        return binding.triggerAsync(DisruptionMode.BEFORE)
+                .thenCompose(ignored -> supplier.get())
+                .thenCompose(result -> binding.triggerAsync(DisruptionMode.AFTER).thenApply(ignored -> result));
+    }
+
+    @Override
+    public CompletionStage<Void> disruptAsync(final DisruptionMode mode) {
+        return this.binding.triggerAsync(mode);
+    }
+}
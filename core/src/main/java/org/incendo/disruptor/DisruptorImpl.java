@@ -23,31 +23,227 @@
 //
 package org.incendo.disruptor;
 
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import org.apiguardian.api.API;
+import org.incendo.disruptor.clock.DisruptionClock;
 
 /**
  * The main {@link Disruptor} implementation.
  *
- * @param groups configured groups
+ * <p>Each configured group is bound to a canonical {@link DisruptorContext} and {@link DisruptorHandle} up front,
+ * so invocations that do not trigger any disruptions do not allocate.</p>
+ *
+ * <p>Disabling the disruptor rebinds every handle to an empty binding, which means that the handles never have to
+ * check whether the disruptor is enabled.</p>
+ *
+ * <p>The bindings are an immutable snapshot that is replaced as a whole when the disruptor is reloaded, after which
+ * every handle that has been handed out is rebound. Invocations never lock: they only read the binding of their
+ * handle, and invocations that are in progress finish using the binding they started with.</p>
+ *
  * @since 1.0.0
  */
 @API(status = API.Status.INTERNAL, since = "1.0.0")
-record DisruptorImpl(
-        Map<String, DisruptorGroup> groups
-) implements Disruptor {
+final class DisruptorImpl implements ReloadableDisruptor {
 
-    private static DisruptorImpl empty = new DisruptorImpl(Map.of());
+    private final List<DisruptorListener> listeners;
+    private final DisruptionClock clock;
+    /**
+     * Every handle that has been handed out, including the handles of groups that are not configured,
+     * so that they can be rebound when the disruptor is reloaded.
+     */
+    private final Map<String, DisruptorHandleImpl> handles = new ConcurrentHashMap<>();
+    private volatile Map<String, GroupBinding> bindings;
+    private volatile boolean enabled;
+
+    private DisruptorImpl(
+            final Map<String, GroupBinding> bindings,
+            final boolean enabled,
+            final List<DisruptorListener> listeners,
+            final DisruptionClock clock
+    ) {
+        this.bindings = bindings;
+        this.enabled = enabled;
+        this.listeners = listeners;
+        this.clock = clock;
+        bindings.keySet().forEach(name -> this.handles.put(name, new DisruptorHandleImpl(name, this.currentBinding(name))));
+    }
 
     static Disruptor empty() {
-        return empty;
+        return new DisruptorImpl(Map.of(), true, List.of(), DisruptionClock.system());
+    }
+
+    /**
+     * Creates a new disruptor containing the given {@code groups}.
+     *
+     * @param groups    groups
+     * @param enabled   whether the disruptor is initially enabled
+     * @param listeners listeners to notify
+     * @param clock     clock of the time-based triggers
+     * @return the disruptor
+     */
+    static DisruptorImpl of(
+            final Map<String, DisruptorGroup> groups,
+            final boolean enabled,
+            final List<DisruptorListener> listeners,
+            final DisruptionClock clock
+    ) {
+        return new DisruptorImpl(bind(groups, listeners, clock), enabled, listeners, clock);
+    }
+
+    private static Map<String, GroupBinding> bind(
+            final Map<String, DisruptorGroup> groups,
+            final List<DisruptorListener> listeners,
+            final DisruptionClock clock
+    ) {
+        final Map<String, GroupBinding> bindings = new HashMap<>();
+        groups.forEach((name, group) -> bindings.put(name, GroupBinding.of(name, group, listeners, clock)));
+        return Map.copyOf(bindings);
+    }
+
+    private GroupBinding currentBinding(final String name) {
+        if (!this.enabled) {
+            return GroupBinding.empty(name);
+        }
+        final GroupBinding binding = this.bindings.get(name);
+        if (binding == null) {
+            return GroupBinding.empty(name);
+        }
+        return binding;
     }
 
     @Override
     public Optional<DisruptorGroup> group(final String name) {
         Objects.requireNonNull(name, "name");
-        return Optional.ofNullable(this.groups.get(name));
+        final GroupBinding binding = this.bindings.get(name);
+        if (binding == null) {
+            return Optional.empty();
+        }
+        return Optional.of(binding.group());
+    }
+
+    @Override
+    public DisruptorHandle handle(final String name) {
+        Objects.requireNonNull(name, "name");
+        final DisruptorHandleImpl handle = this.handles.get(name);
+        if (handle != null) {
+            return handle;
+        }
+        // Creating the handle must not race with a reload, or the handle could miss the rebind.
+        synchronized (this) {
+            return this.handles.computeIfAbsent(name, key -> new DisruptorHandleImpl(key, this.currentBinding(key)));
+        }
+    }
+
+    @Override
+    public boolean enabled() {
+        return this.enabled;
+    }
+
+    @Override
+    public synchronized void enabled(final boolean enabled) {
+        if (this.enabled == enabled) {
+            return;
+        }
+        this.enabled = enabled;
+        this.rebind();
+    }
+
+    @Override
+    public synchronized void reload(final Map<String, DisruptorGroup> groups) {
+        Objects.requireNonNull(groups, "groups");
+        this.bindings = bind(groups, this.listeners, this.clock);
+        this.bindings.keySet().forEach(name -> this.handles.computeIfAbsent(
+                name,
+                key -> new DisruptorHandleImpl(key, this.currentBinding(key))
+        ));
+        this.rebind();
+    }
+
+    private void rebind() {
+        this.handles.forEach((name, handle) -> handle.bind(this.currentBinding(name)));
+    }
+
+    @Override
+    public <T> T disrupt(final String group, final Supplier<T> supplier) {
+        Objects.requireNonNull(group, "group");
+        if (!this.enabled) {
+            return supplier.get();
+        }
+        final DisruptorHandleImpl handle = this.handles.get(group);
+        if (handle == null) {
+            return supplier.get();
+        }
+        return handle.disrupt(supplier);
+    }
+
+    @Override
+    public void disruptWithoutResult(final String group, final Runnable runnable) {
+        Objects.requireNonNull(group, "group");
+        if (!this.enabled) {
+            runnable.run();
+            return;
+        }
+        final DisruptorHandleImpl handle = this.handles.get(group);
+        if (handle == null) {
+            runnable.run();
+            return;
+        }
+        handle.disruptWithoutResult(runnable);
+    }
+
+    @Override
+    public void disrupt(final String group, final DisruptionMode mode) {
+        Objects.requireNonNull(group, "group");
+        if (!this.enabled) {
+            return;
+        }
+        final DisruptorHandleImpl handle = this.handles.get(group);
+        if (handle != null) {
+            handle.disrupt(mode);
+        }
+    }
+
+    @Override
+    public <T> CompletionStage<T> disruptAsync(final String group, final Supplier<? extends CompletionStage<T>> supplier) {
+        Objects.requireNonNull(group, "group");
+        if (!this.enabled) {
+            return supplyAsync(supplier);
+        }
+        final DisruptorHandleImpl handle = this.handles.get(group);
+        if (handle == null) {
+            return supplyAsync(supplier);
+        }
+        return handle.disruptAsync(supplier);
+    }
+
+    @Override
+    public CompletionStage<Void> disruptAsync(final String group, final DisruptionMode mode) {
+        Objects.requireNonNull(group, "group");
+        if (!this.enabled) {
+            return DispatchPlan.COMPLETED;
+        }
+        final DisruptorHandleImpl handle = this.handles.get(group);
+        if (handle == null) {
+            return DispatchPlan.COMPLETED;
+        }
+        return handle.disruptAsync(mode);
+    }
+
+    private static <T> CompletionStage<T> supplyAsync(final Supplier<? extends CompletionStage<T>> supplier) {
+        // The handle composes the supplier onto the disruptions, which turns any throwable into a failed stage, so errors
+        // and sneaky thrown checked exceptions must not escape here either.
+        try {
+            return supplier.get();
+        } catch (final Throwable throwable) {
+            return CompletableFuture.failedStage(throwable);
+        }
     }
 }
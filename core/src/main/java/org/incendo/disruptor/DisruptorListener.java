@@ -0,0 +1,49 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor;
+
+import org.apiguardian.api.API;
+
+/**
+ * Listener that observes the evaluations of the triggers and the disruptions of a {@link Disruptor}.
+ *
+ * <p>Listeners are registered using {@link DisruptorBuilder#listener(DisruptorListener)}. The disruptor asks the
+ * listener for a {@link GroupListener} once per group when the group is bound, so that the listener can resolve
+ * everything it needs up front, and the invocations only pay for calling the group listener.</p>
+ *
+ * @since 1.0.0
+ */
+@API(status = API.Status.STABLE, since = "1.0.0")
+@FunctionalInterface
+public interface DisruptorListener {
+
+    /**
+     * Returns the listener for the given {@code group}.
+     *
+     * @param name  group name
+     * @param group group
+     * @return the group listener
+     */
+    GroupListener group(String name, DisruptorGroup group);
+}
@@ -0,0 +1,108 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import org.apiguardian.api.API;
+import org.incendo.disruptor.clock.DisruptionClock;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link DisruptorGroup} bound to its name, holding everything needed to dispatch the group
+ * without allocating.
+ *
+ * @param group    the group
+ * @param context  the canonical context shared by all invocations of the group
+ * @param plan     the dispatch plan of the group
+ * @param listener the listener of the group, or {@code null} if nothing is listening
+ * @since 1.0.0
+ */
+@API(status = API.Status.INTERNAL, since = "1.0.0")
+record GroupBinding(
+        DisruptorGroup group,
+        DisruptorContext context,
+        DispatchPlan plan,
+        @Nullable GroupListener listener
+) {
+
+    private static final DisruptorGroup EMPTY_GROUP = new DisruptorGroupImpl(List.of());
+
+    /**
+     * Binds the given {@code group} to the given {@code name}, notifying the given {@code listeners}.
+     *
+     * @param name      group name
+     * @param group     group to bind
+     * @param listeners listeners
+     * @param clock     clock of the time-based triggers
+     * @return the binding
+     */
+    static GroupBinding of(
+            final String name,
+            final DisruptorGroup group,
+            final List<DisruptorListener> listeners,
+            final DisruptionClock clock
+    ) {
+        final GroupListener listener;
+        if (listeners.isEmpty()) {
+            listener = null;
+        } else if (listeners.size() == 1) {
+            listener = listeners.get(0).group(name, group);
+        } else {
+            listener = new CompositeGroupListener(
+                    listeners.stream().map(groupListener -> groupListener.group(name, group)).toArray(GroupListener[]::new)
+            );
+        }
+        return new GroupBinding(group, DisruptorContext.of(name, clock), DispatchPlan.of(group), listener);
+    }
+
+    /**
+     * Returns a binding for a group that is not configured, which never triggers any disruptions.
+     *
+     * @param name group name
+     * @return the binding
+     */
+    static GroupBinding empty(final String name) {
+        return of(name, EMPTY_GROUP, List.of(), DisruptionClock.system());
+    }
+
+    /**
+     * Triggers the disruptions of the group for the given {@code mode}.
+     *
+     * @param mode mode to trigger
+     */
+    void trigger(final DisruptionMode mode) {
+        this.plan.trigger(this.context, mode, this.listener);
+    }
+
+    /**
+     * Triggers the disruptions of the group for the given {@code mode} without blocking.
+     *
+     * @param mode mode to trigger
+     * @return stage that completes once the disruptions are over
+     */
+    CompletionStage<Void> triggerAsync(final DisruptionMode mode) {
+        return this.plan.triggerAsync(this.context, mode, this.listener);
+    }
+}
@@ -0,0 +1,94 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Listener for a single group, returned by {@link DisruptorListener#group(String, DisruptorGroup)}.
+ *
+ * <p>The configurations and the disruptions are identified by their index in {@link DisruptorGroup#configurations()}
+ * and {@link DisruptionConfig#disruptions()}. The methods are invoked on the disrupted threads, so they must be
+ * thread-safe, must not block and must not throw.</p>
+ *
+ * @since 1.0.0
+ */
+@API(status = API.Status.STABLE, since = "1.0.0")
+public interface GroupListener {
+
+    /**
+     * Invoked when the trigger of a configuration has been evaluated.
+     *
+     * @param config    index of the configuration
+     * @param triggered whether the trigger fired
+     */
+    void evaluated(int config, boolean triggered);
+
+    /**
+     * Invoked when a disruption is over.
+     *
+     * @param config        index of the configuration
+     * @param disruption    index of the disruption in the configuration
+     * @param durationNanos time spent in the disruption, in nanoseconds
+     * @param failure       the exception thrown by the disruption, or {@code null} if it did not throw
+     */
+    void disrupted(int config, int disruption, long durationNanos, @Nullable Throwable failure);
+
+    /**
+     * Invoked when a disruption is about to start. The returned state is passed back to
+     * {@link #disrupted(int, int, long, Throwable, Object)} once the disruption is over, which lets listeners span the
+     * disruption, for example with a JFR event.
+     *
+     * @param config     index of the configuration
+     * @param disruption index of the disruption in the configuration
+     * @return the state of the disruption, or {@code null}
+     * @since 1.0.0
+     */
+    default @Nullable Object disrupting(final int config, final int disruption) {
+        return null;
+    }
+
+    /**
+     * Invoked when a disruption is over, with the state returned by {@link #disrupting(int, int)}.
+     *
+     * <p>The default implementation ignores the state and invokes {@link #disrupted(int, int, long, Throwable)}.</p>
+     *
+     * @param config        index of the configuration
+     * @param disruption    index of the disruption in the configuration
+     * @param durationNanos time spent in the disruption, in nanoseconds
+     * @param failure       the exception thrown by the disruption, or {@code null} if it did not throw
+     * @param state         the state returned by {@link #disrupting(int, int)}
+     * @since 1.0.0
+     */
+    default void disrupted(
+            final int config,
+            final int disruption,
+            final long durationNanos,
+            final @Nullable Throwable failure,
+            final @Nullable Object state
+    ) {
+        this.disrupted(config, disruption, durationNanos, failure);
+    }
+}
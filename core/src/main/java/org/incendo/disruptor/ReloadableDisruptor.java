@@ -0,0 +1,53 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor;
+
+import java.util.Map;
+import org.apiguardian.api.API;
+
+/**
+ * A {@link Disruptor} whose groups can be replaced at runtime, built using {@link DisruptorBuilder#buildReloadable()}.
+ *
+ * <p>Reloading replaces the groups atomically, as a whole. The handles that have been handed out by
+ * {@link #handle(String)} are rebound to the new groups, including the handles to groups that did not exist before.
+ * Invocations never wait for a reload, and invocations that are in progress when the disruptor is reloaded finish using
+ * the groups they started with.</p>
+ *
+ * <p>The state of stateful triggers, such as {@link org.incendo.disruptor.trigger.DisruptionTrigger#counting(int)},
+ * belongs to the trigger instances. Reloading with the same instances keeps the state, and reloading with new instances
+ * resets it.</p>
+ *
+ * @since 1.0.0
+ * @see org.incendo.disruptor.config.DisruptorConfigWatcher
+ */
+@API(status = API.Status.STABLE, since = "1.0.0")
+public interface ReloadableDisruptor extends Disruptor {
+
+    /**
+     * Replaces the groups of the disruptor with the given {@code groups}. Groups that are not in the map are removed.
+     *
+     * @param groups the new groups, by name
+     */
+    void reload(Map<String, DisruptorGroup> groups);
+}
@@ -0,0 +1,75 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.clock;
+
+import java.util.concurrent.locks.LockSupport;
+import org.apiguardian.api.API;
+
+/**
+ * Clock that caches {@link System#nanoTime()}, and that is updated by a daemon thread.
+ *
+ * @see DisruptionClock#coarse(java.time.Duration)
+ * @since 1.0.0
+ */
+@API(status = API.Status.STABLE, since = "1.0.0")
+public final class CoarseClock implements DisruptionClock, AutoCloseable {
+
+    private final long resolutionNanos;
+    private final Thread updater;
+    private volatile long nanoTime = System.nanoTime();
+    private volatile boolean closed;
+
+    private CoarseClock(final long resolutionNanos) {
+        this.resolutionNanos = resolutionNanos;
+        this.updater = new Thread(this::run, "disruptor-coarse-clock");
+        this.updater.setDaemon(true);
+    }
+
+    static CoarseClock start(final long resolutionNanos) {
+        final CoarseClock clock = new CoarseClock(resolutionNanos);
+        clock.updater.start();
+        return clock;
+    }
+
+    @Override
+    public long nanoTime() {
+        return this.nanoTime;
+    }
+
+    /**
+     * Stops the updater thread. The clock no longer moves once it has been closed.
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        LockSupport.unpark(this.updater);
+    }
+
+    private void run() {
+        while (!this.closed) {
+            LockSupport.parkNanos(this, this.resolutionNanos);
+            this.nanoTime = System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.clock;
+
+import java.time.Duration;
+import java.util.Objects;
+import org.apiguardian.api.API;
+
+/**
+ * Monotonic time source of the time-based triggers, such as {@link org.incendo.disruptor.trigger.DisruptionTrigger#lasting(Duration)}
+ * and {@link org.incendo.disruptor.trigger.DisruptionTrigger#limiting(int, Duration)}.
+ *
+ * <p>Like {@link System#nanoTime()}, the values are only meaningful relative to each other, and must be compared using
+ * their difference, as they may overflow.</p>
+ *
+ * <p>The clock of a disruptor is configured using {@link org.incendo.disruptor.DisruptorBuilder#clock(DisruptionClock)},
+ * and is available to the triggers through {@link org.incendo.disruptor.DisruptorContext#clock()}.</p>
+ *
+ * @since 1.0.0
+ */
+@API(status = API.Status.STABLE, since = "1.0.0")
+@FunctionalInterface
+public interface DisruptionClock {
+
+    /**
+     * Returns the clock backed by {@link System#nanoTime()}. This is the default clock.
+     *
+     * @return the clock
+     */
+    static DisruptionClock system() {
+        return SystemClock.INSTANCE;
+    }
+
+    /**
+     * Returns a clock that caches {@link System#nanoTime()}, and that is updated by a daemon thread every
+     * {@code resolution}. Reading the clock is a single volatile read, which makes it cheaper than the system clock for
+     * very hot groups, at the cost of the precision of the time-based triggers.
+     *
+     * <p>The thread runs until the clock is {@link CoarseClock#close() closed}.</p>
+     *
+     * @param resolution how often the clock is updated
+     * @return the clock
+     */
+    static CoarseClock coarse(final Duration resolution) {
+        Objects.requireNonNull(resolution, "resolution");
+        if (resolution.isNegative() || resolution.isZero()) {
+            throw new IllegalArgumentException("resolution must be positive");
+        }
+        return CoarseClock.start(resolution.toNanos());
+    }
+
+    /**
+     * Returns a clock that only moves when it is advanced, which lets tests control the time-based triggers
+     * without sleeping.
+     *
+     * @return the clock
+     */
+    static ManualClock manual() {
+        return new ManualClock();
+    }
+
+    /**
+     * Returns the current value of the clock, in nanoseconds.
+     *
+     * @return the current time
+     */
+    long nanoTime();
+}
@@ -0,0 +1,4 @@
+@NullMarked
+package org.incendo.disruptor.clock;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,81 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.config;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import org.apiguardian.api.API;
+import org.incendo.disruptor.DisruptorGroup;
+
+/**
+ * Loads disruptor groups from a configuration file.
+ *
+ * @since 1.0.0
+ */
+@API(status = API.Status.STABLE, since = "1.0.0")
+@FunctionalInterface
+public interface DisruptorConfigLoader {
+
+    /**
+     * Returns a loader that reads the groups from a properties file.
+     *
+     * <p>Each property is named {@code <group>.<config>.<property>}, where {@code <config>} is a number that orders the
+     * configurations of the group. The supported properties are:</p>
+     * <ul>
+     *     <li>{@code trigger}: {@code never}, {@code random:<chance>}, {@code counting:<invocations>} or
+     *     {@code approximate-counting:<invocations>}, required</li>
+     *     <li>{@code lasting}: a {@link java.time.Duration} that the trigger lasts for once it has fired</li>
+     *     <li>{@code limiting}: {@code <limit>/<duration>}, the maximum number of triggers per period</li>
+     *     <li>{@code mode}: {@code BEFORE} or {@code AFTER}, defaults to {@code BEFORE}</li>
+     *     <li>{@code delay}: a {@link java.time.Duration} to delay the invocation by</li>
+     *     <li>{@code exception}: the message of a {@link RuntimeException} to throw, after the delay</li>
+     * </ul>
+     *
+     * <p>Durations use the ISO-8601 format of {@link java.time.Duration#parse(CharSequence)}, such as {@code PT0.5S}.
+     * For example:</p>
+     * <pre>{@code
+     * orders.0.trigger=random:0.25
+     * orders.0.lasting=PT5S
+     * orders.0.delay=PT1S
+     * orders.1.trigger=counting:100
+     * orders.1.mode=AFTER
+     * orders.1.exception=Injected failure
+     * }</pre>
+     *
+     * @return the loader
+     */
+    static DisruptorConfigLoader properties() {
+        return PropertiesConfigLoader.INSTANCE;
+    }
+
+    /**
+     * Loads the groups from the given {@code file}.
+     *
+     * @param file configuration file
+     * @return the groups, by name
+     * @throws IOException if the file cannot be read or is invalid
+     */
+    Map<String, DisruptorGroup> load(Path file) throws IOException;
+}
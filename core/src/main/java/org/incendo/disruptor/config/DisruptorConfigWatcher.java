@@ -0,0 +1,198 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.config;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.apiguardian.api.API;
+import org.incendo.disruptor.ReloadableDisruptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Watches a configuration file, and reloads a {@link ReloadableDisruptor} whenever the file changes.
+ *
+ * <p>The file is loaded once when the watcher is created, and then whenever the file is created or modified.
+ * The file is watched on a daemon thread, so reloading never happens on a disrupted thread. If the file cannot be
+ * loaded, the error is logged and the disruptor keeps its previous groups.</p>
+ *
+ * <pre>{@code
+ * final ReloadableDisruptor disruptor = Disruptor.builder().buildReloadable();
+ * final DisruptorConfigWatcher watcher = DisruptorConfigWatcher.watch(
+ *         disruptor,
+ *         Path.of("disruptor.properties"),
+ *         DisruptorConfigLoader.properties()
+ * );
+ * // ...
+ * watcher.close();
+ * }</pre>
+ *
+ * @since 1.0.0
+ */
+@API(status = API.Status.STABLE, since = "1.0.0")
+public final class DisruptorConfigWatcher implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DisruptorConfigWatcher.class);
+    private static final long SETTLE_MILLIS = 100L;
+
+    private final ReloadableDisruptor disruptor;
+    private final Path file;
+    private final DisruptorConfigLoader loader;
+    private final WatchService watchService;
+    private final Thread thread;
+
+    private DisruptorConfigWatcher(
+            final ReloadableDisruptor disruptor,
+            final Path file,
+            final DisruptorConfigLoader loader,
+            final WatchService watchService
+    ) {
+        this.disruptor = disruptor;
+        this.file = file;
+        this.loader = loader;
+        this.watchService = watchService;
+        this.thread = new Thread(this::run, "disruptor-config-watcher");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Loads the given {@code file} into the given {@code disruptor}, and starts watching the file for changes.
+     *
+     * @param disruptor disruptor to reload
+     * @param file      configuration file
+     * @param loader    loader for the configuration file
+     * @return the watcher, which should be closed once the file no longer needs to be watched
+     * @throws IOException if the file cannot be loaded or watched
+     */
+    public static DisruptorConfigWatcher watch(
+            final ReloadableDisruptor disruptor,
+            final Path file,
+            final DisruptorConfigLoader loader
+    ) throws IOException {
+        Objects.requireNonNull(disruptor, "disruptor");
+        Objects.requireNonNull(file, "file");
+        Objects.requireNonNull(loader, "loader");
+
+        final Path absoluteFile = file.toAbsolutePath();
+        if (Files.exists(absoluteFile)) {
+            disruptor.reload(loader.load(absoluteFile));
+        }
+
+        final Path directory = Objects.requireNonNull(absoluteFile.getParent(), "file has no parent directory");
+        final WatchService watchService = directory.getFileSystem().newWatchService();
+        try {
+            directory.register(
+                    watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY
+            );
+        } catch (final IOException exception) {
+            watchService.close();
+            throw exception;
+        }
+
+        final DisruptorConfigWatcher watcher = new DisruptorConfigWatcher(disruptor, absoluteFile, loader, watchService);
+        watcher.thread.start();
+        return watcher;
+    }
+
+    /**
+     * Loads the file into the disruptor, without waiting for the file to change.
+     *
+     * @throws IOException if the file cannot be loaded
+     */
+    public void reload() throws IOException {
+        this.disruptor.reload(this.loader.load(this.file));
+    }
+
+    /**
+     * Stops watching the file.
+     *
+     * @throws IOException if the watch service cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        this.watchService.close();
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                if (!this.poll(this.watchService.take())) {
+                    continue;
+                }
+                // Writes often arrive as several events, such as a truncation followed by the new contents, so the
+                // file is only loaded once no more events arrive for a while.
+                WatchKey key;
+                while ((key = this.watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    this.poll(key);
+                }
+                if (!Files.exists(this.file)) {
+                    continue;
+                }
+                try {
+                    this.reload();
+                    LOGGER.info("Reloaded disruptor configuration from {}", this.file);
+                } catch (final IOException | RuntimeException exception) {
+                    LOGGER.warn("Failed to reload disruptor configuration from {}", this.file, exception);
+                }
+            }
+        } catch (final InterruptedException | ClosedWatchServiceException exception) {
+            // The watcher has been closed.
+        } catch (final DirectoryInaccessibleException exception) {
+            LOGGER.warn("Stopped watching {}, as its directory is no longer accessible", this.file);
+        }
+    }
+
+    // Consumes the events of the given key, and returns whether any of them may have changed the file.
+    private boolean poll(final WatchKey key) throws DirectoryInaccessibleException {
+        boolean changed = false;
+        for (final WatchEvent<?> event : key.pollEvents()) {
+            // Overflows mean that events were lost, which may have included changes to the file.
+            changed |= event.kind() == StandardWatchEventKinds.OVERFLOW
+                    || this.file.getFileName().equals(event.context());
+        }
+        if (!key.reset()) {
+            throw new DirectoryInaccessibleException();
+        }
+        return changed;
+    }
+
+    private static final class DirectoryInaccessibleException extends Exception {
+
+        private static final long serialVersionUID = 1L;
+
+        private DirectoryInaccessibleException() {
+            super(null, null, false, false);
+        }
+    }
+}
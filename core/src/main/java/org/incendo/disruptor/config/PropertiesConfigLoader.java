@@ -0,0 +1,157 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.config;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import org.apiguardian.api.API;
+import org.incendo.disruptor.DisruptionConfig;
+import org.incendo.disruptor.DisruptionConfigBuilder;
+import org.incendo.disruptor.DisruptionMode;
+import org.incendo.disruptor.DisruptorGroup;
+import org.incendo.disruptor.DisruptorGroupBuilder;
+import org.incendo.disruptor.trigger.DisruptionTrigger;
+
+/**
+ * Loader for the properties format described in {@link DisruptorConfigLoader#properties()}.
+ *
+ * @since 1.0.0
+ */
+@API(status = API.Status.INTERNAL, since = "1.0.0")
+final class PropertiesConfigLoader implements DisruptorConfigLoader {
+
+    static final PropertiesConfigLoader INSTANCE = new PropertiesConfigLoader();
+
+    private PropertiesConfigLoader() {
+    }
+
+    @Override
+    public Map<String, DisruptorGroup> load(final Path file) throws IOException {
+        final Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            properties.load(reader);
+        }
+
+        // group -> config index -> property -> value
+        final Map<String, Map<Integer, Map<String, String>>> groups = new HashMap<>();
+        for (final String key : properties.stringPropertyNames()) {
+            final int propertySeparator = key.lastIndexOf('.');
+            final int configSeparator = propertySeparator <= 0 ? -1 : key.lastIndexOf('.', propertySeparator - 1);
+            if (configSeparator <= 0) {
+                throw new IOException("Invalid key " + key + ", expected <group>.<config>.<property>");
+            }
+            final int config;
+            try {
+                config = Integer.parseInt(key.substring(configSeparator + 1, propertySeparator));
+            } catch (final NumberFormatException exception) {
+                throw new IOException("Invalid config index in key " + key, exception);
+            }
+            groups.computeIfAbsent(key.substring(0, configSeparator), group -> new TreeMap<>())
+                    .computeIfAbsent(config, index -> new HashMap<>())
+                    .put(key.substring(propertySeparator + 1), properties.getProperty(key).trim());
+        }
+
+        final Map<String, DisruptorGroup> result = new HashMap<>();
+        for (final Map.Entry<String, Map<Integer, Map<String, String>>> group : groups.entrySet()) {
+            final DisruptorGroupBuilder builder = DisruptorGroup.builder();
+            for (final Map.Entry<Integer, Map<String, String>> config : group.getValue().entrySet()) {
+                try {
+                    builder.config(this.config(config.getValue()));
+                } catch (final IllegalArgumentException | DateTimeParseException exception) {
+                    throw new IOException(
+                            "Invalid config " + group.getKey() + "." + config.getKey() + ": " + exception.getMessage(),
+                            exception
+                    );
+                }
+            }
+            result.put(group.getKey(), builder.build());
+        }
+        return result;
+    }
+
+    private DisruptionConfigBuilder config(final Map<String, String> properties) {
+        final Map<String, String> remaining = new HashMap<>(properties);
+        final String triggerProperty = remaining.remove("trigger");
+        if (triggerProperty == null) {
+            throw new IllegalArgumentException("trigger is required");
+        }
+        DisruptionTrigger trigger = this.trigger(triggerProperty);
+        final String lasting = remaining.remove("lasting");
+        if (lasting != null) {
+            trigger = trigger.lasting(Duration.parse(lasting));
+        }
+        final String limiting = remaining.remove("limiting");
+        if (limiting != null) {
+            final int separator = limiting.indexOf('/');
+            if (separator == -1) {
+                throw new IllegalArgumentException("limiting must be <limit>/<duration>");
+            }
+            trigger = trigger.limiting(
+                    Integer.parseInt(limiting.substring(0, separator).trim()),
+                    Duration.parse(limiting.substring(separator + 1).trim())
+            );
+        }
+
+        final DisruptionConfigBuilder builder = DisruptionConfig.builder().trigger(trigger);
+        final String mode = remaining.remove("mode");
+        if (mode != null) {
+            builder.mode(DisruptionMode.valueOf(mode.toUpperCase(Locale.ROOT)));
+        }
+        final String delay = remaining.remove("delay");
+        if (delay != null) {
+            builder.delay(Duration.parse(delay));
+        }
+        final String exception = remaining.remove("exception");
+        if (exception != null) {
+            builder.throwException(ctx -> new RuntimeException(exception));
+        }
+
+        if (!remaining.isEmpty()) {
+            throw new IllegalArgumentException("Unknown properties " + remaining.keySet());
+        }
+        return builder;
+    }
+
+    private DisruptionTrigger trigger(final String trigger) {
+        final int separator = trigger.indexOf(':');
+        final String type = separator == -1 ? trigger : trigger.substring(0, separator);
+        final String argument = separator == -1 ? "" : trigger.substring(separator + 1).trim();
+        return switch (type) {
+            case "never" -> DisruptionTrigger.never();
+            case "random" -> DisruptionTrigger.random(Float.parseFloat(argument));
+            case "counting" -> DisruptionTrigger.counting(Integer.parseInt(argument));
+            case "approximate-counting" -> DisruptionTrigger.approximateCounting(Integer.parseInt(argument));
+            default -> throw new IllegalArgumentException("Unknown trigger " + type);
+        };
+    }
+}
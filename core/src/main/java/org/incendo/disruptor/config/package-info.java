@@ -0,0 +1,4 @@
+@NullMarked
+package org.incendo.disruptor.config;
+
+import org.jspecify.annotations.NullMarked;
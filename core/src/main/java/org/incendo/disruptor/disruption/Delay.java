@@ -23,25 +23,40 @@
 //
 package org.incendo.disruptor.disruption;
 
-import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import org.apiguardian.api.API;
 import org.incendo.disruptor.DisruptionException;
 import org.incendo.disruptor.DisruptorContext;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 @API(status = API.Status.INTERNAL, since = "1.0.0")
-record Delay(Duration duration) implements Disruption {
+record Delay(LatencyDistribution distribution) implements Disruption {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(Delay.class);
+    private static final Runnable NOOP = () -> {
+    };
+
+    @Override
+    public String type() {
+        return "delay";
+    }
 
     @Override
     public void trigger(final DisruptorContext context) {
-        LOGGER.debug("Starting delay of {}ms for group {}", this.duration.toMillis(), context.group());
+        final long nanos = this.distribution.sampleNanos(ThreadLocalRandom.current());
         try {
-            Thread.sleep(this.duration);
+            TimeUnit.NANOSECONDS.sleep(nanos);
         } catch (final InterruptedException e) {
             throw new DisruptionException(e);
         }
     }
+
+    @Override
+    public CompletionStage<Void> triggerAsync(final DisruptorContext context) {
+        final long nanos = this.distribution.sampleNanos(ThreadLocalRandom.current());
+        // The delayed executor schedules the completion on the shared JDK timer, and then completes the stage
+        // on the common pool, so no thread is blocked for the duration of the delay.
+        return CompletableFuture.runAsync(NOOP, CompletableFuture.delayedExecutor(nanos, TimeUnit.NANOSECONDS));
+    }
 }
@@ -25,7 +25,10 @@ package org.incendo.disruptor.disruption;
 
 import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import org.apiguardian.api.API;
 import org.incendo.disruptor.DisruptorContext;
 
@@ -37,6 +40,11 @@ import org.incendo.disruptor.DisruptorContext;
 @API(status = API.Status.STABLE, since = "1.0.0")
 public interface Disruption {
 
+    /**
+     * The spin threshold of {@link #delayingPrecisely(LatencyDistribution)}.
+     */
+    Duration DEFAULT_SPIN_THRESHOLD = Duration.ofNanos(100_000L);
+
     /**
      * Returns a disruption that delays the invocation by the given {@code duration}.
      *
@@ -44,8 +52,70 @@ public interface Disruption {
      * @return the disruption
      */
     static Disruption delaying(final Duration duration) {
-        Objects.requireNonNull(duration, "duration");
-        return new Delay(duration);
+        return delaying(LatencyDistribution.constant(duration));
+    }
+
+    /**
+     * Returns a disruption that delays the invocation by a latency sampled from the given {@code distribution}
+     * each time the disruption is triggered.
+     *
+     * @param distribution latency distribution
+     * @return the disruption
+     */
+    static Disruption delaying(final LatencyDistribution distribution) {
+        Objects.requireNonNull(distribution, "distribution");
+        return new Delay(distribution);
+    }
+
+    /**
+     * Returns a disruption that delays the invocation by the given {@code duration}, with microsecond precision.
+     *
+     * @param duration delay duration
+     * @return the disruption
+     * @see #delayingPrecisely(LatencyDistribution, Duration)
+     */
+    static Disruption delayingPrecisely(final Duration duration) {
+        return delayingPrecisely(LatencyDistribution.constant(duration));
+    }
+
+    /**
+     * Returns a disruption that delays the invocation by a latency sampled from the given {@code distribution}, with
+     * microsecond precision, using the {@link #DEFAULT_SPIN_THRESHOLD}.
+     *
+     * @param distribution latency distribution
+     * @return the disruption
+     * @see #delayingPrecisely(LatencyDistribution, Duration)
+     */
+    static Disruption delayingPrecisely(final LatencyDistribution distribution) {
+        return delayingPrecisely(distribution, DEFAULT_SPIN_THRESHOLD);
+    }
+
+    /**
+     * Returns a disruption that delays the invocation by a latency sampled from the given {@code distribution}, with
+     * microsecond precision.
+     *
+     * <p>{@link #delaying(LatencyDistribution)} sleeps for the whole delay, which overshoots by the timer slack and the
+     * scheduling latency of the OS. This is negligible for long delays, but makes delays below a millisecond
+     * unrealistic. This disruption parks until {@code spinThreshold} before the deadline, and then spins until the
+     * deadline, which keeps a core busy for up to {@code spinThreshold} per delay.</p>
+     *
+     * <p>{@link #triggerAsync(DisruptorContext)} waits for the bulk of the delay using a timer, and spins on the
+     * common pool, so its precision is bounded by how fast the common pool picks up the task.</p>
+     *
+     * <p>The requested and the achieved delays are reported by the {@code org.incendo.disruptor.PreciseDelay}
+     * JDK Flight Recorder event.</p>
+     *
+     * @param distribution  latency distribution
+     * @param spinThreshold how long before the deadline the thread stops parking and starts spinning
+     * @return the disruption
+     */
+    static Disruption delayingPrecisely(final LatencyDistribution distribution, final Duration spinThreshold) {
+        Objects.requireNonNull(distribution, "distribution");
+        Objects.requireNonNull(spinThreshold, "spinThreshold");
+        if (spinThreshold.isNegative()) {
+            throw new IllegalArgumentException("spinThreshold must be non-negative");
+        }
+        return new PreciseDelay(distribution, spinThreshold.toNanos());
     }
 
     /**
@@ -62,10 +132,111 @@ public interface Disruption {
         return new Throwing(generator);
     }
 
+    /**
+     * Returns a disruption that throws a preallocated {@link org.incendo.disruptor.DisruptionException} with the given
+     * {@code message} and without a stack trace.
+     *
+     * <p>The same exception instance is thrown each time, which keeps the cost of injecting failures at high rates
+     * down to the cost of the throw itself.</p>
+     *
+     * @param message exception message
+     * @return the disruption
+     */
+    static Disruption throwingStackless(final String message) {
+        return throwingStackless(message, 0);
+    }
+
+    /**
+     * Returns a disruption that throws a preallocated {@link org.incendo.disruptor.DisruptionException} with the given
+     * {@code message} and without a stack trace, except for every {@code stackTraceEvery}th throw which throws a new
+     * exception with a stack trace. This keeps the origin of the failures visible in the logs at a fraction of the cost.
+     *
+     * @param message         exception message
+     * @param stackTraceEvery how often a stack trace should be captured, or {@code 0} to never capture one
+     * @return the disruption
+     */
+    static Disruption throwingStackless(final String message, final int stackTraceEvery) {
+        Objects.requireNonNull(message, "message");
+        if (stackTraceEvery < 0) {
+            throw new IllegalArgumentException("stackTraceEvery must be non-negative");
+        }
+        return StacklessThrowing.of(message, stackTraceEvery);
+    }
+
+    /**
+     * Returns a disruption that throws an exception created once by the given {@code factory}, without a stack trace.
+     * This lets the injected failures use the types the application expects, such as a
+     * {@link java.net.SocketTimeoutException}.
+     *
+     * <p>If the {@code factory} creates a non-{@link RuntimeException} then the exception will be wrapped in a
+     * {@link org.incendo.disruptor.DisruptionException}, like {@link #throwing(Function)} does.</p>
+     *
+     * <p>The same exception instance is rethrown concurrently by every thread that is disrupted, so it must never be
+     * mutated, for example using {@link Throwable#initCause(Throwable)}, and it should be created with suppression
+     * disabled, as {@link Throwable#addSuppressed(Throwable)} would otherwise record the suppressed exceptions of
+     * unrelated invocations.</p>
+     *
+     * @param factory factory that creates the exception
+     * @return the disruption
+     * @since 1.0.0
+     */
+    static Disruption throwingStackless(final Supplier<? extends Throwable> factory) {
+        return throwingStackless(factory, 0);
+    }
+
+    /**
+     * Returns a disruption that throws an exception created once by the given {@code factory}, without a stack trace,
+     * except for every {@code stackTraceEvery}th throw which throws a new exception from the {@code factory}, with the
+     * stack trace of the disrupted invocation.
+     *
+     * <p>The preallocated exception is shared like the one of {@link #throwingStackless(Supplier)}.</p>
+     *
+     * @param factory         factory that creates the exception
+     * @param stackTraceEvery how often a stack trace should be captured, or {@code 0} to never capture one
+     * @return the disruption
+     * @since 1.0.0
+     */
+    static Disruption throwingStackless(final Supplier<? extends Throwable> factory, final int stackTraceEvery) {
+        Objects.requireNonNull(factory, "factory");
+        if (stackTraceEvery < 0) {
+            throw new IllegalArgumentException("stackTraceEvery must be non-negative");
+        }
+        return StacklessThrowing.of(factory, stackTraceEvery);
+    }
+
+    /**
+     * Returns the type of the disruption, such as {@code delay} or {@code exception}, which is used to
+     * aggregate metrics. The default implementation returns {@code custom}.
+     *
+     * @return the type
+     */
+    default String type() {
+        return "custom";
+    }
+
     /**
      * Triggers the disruption.
      *
      * @param context disruption context
      */
     void trigger(DisruptorContext context);
+
+    /**
+     * Triggers the disruption without blocking the invoking thread. The returned stage completes once
+     * the disruption is over, and completes exceptionally if the disruption fails.
+     *
+     * <p>The default implementation invokes {@link #trigger(DisruptorContext)} on the invoking thread. Disruptions
+     * that would otherwise block, such as {@link #delaying(Duration)}, should override this method.</p>
+     *
+     * @param context disruption context
+     * @return stage that completes once the disruption is over
+     */
+    default CompletionStage<Void> triggerAsync(final DisruptorContext context) {
+        try {
+            this.trigger(context);
+        } catch (final RuntimeException exception) {
+            return CompletableFuture.failedStage(exception);
+        }
+        return CompletableFuture.completedStage(null);
+    }
 }
@@ -0,0 +1,193 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.disruption;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+import org.apiguardian.api.API;
+
+/**
+ * Distribution of latencies that a delay is sampled from, see {@link Disruption#delaying(LatencyDistribution)}.
+ *
+ * <p>The built-in distributions are immutable and allocation-free, so they may be sampled concurrently.
+ * Delay disruptions sample them using {@link java.util.concurrent.ThreadLocalRandom}.</p>
+ *
+ * @since 1.0.0
+ */
+@API(status = API.Status.STABLE, since = "1.0.0")
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    /**
+     * Returns a distribution that always returns the given {@code duration}.
+     *
+     * @param duration latency
+     * @return the distribution
+     */
+    static LatencyDistribution constant(final Duration duration) {
+        return new LatencyDistributions.Constant(LatencyDistributions.nanos(duration, "duration"));
+    }
+
+    /**
+     * Returns a distribution that is uniform between {@code minimum} and {@code maximum}, inclusive.
+     *
+     * @param minimum minimum latency
+     * @param maximum maximum latency
+     * @return the distribution
+     */
+    static LatencyDistribution uniform(final Duration minimum, final Duration maximum) {
+        final long minimumNanos = LatencyDistributions.nanos(minimum, "minimum");
+        final long maximumNanos = LatencyDistributions.nanos(maximum, "maximum");
+        if (maximumNanos < minimumNanos) {
+            throw new IllegalArgumentException("maximum must not be less than minimum");
+        }
+        return new LatencyDistributions.Uniform(minimumNanos, maximumNanos);
+    }
+
+    /**
+     * Returns a normal distribution with the given {@code mean} and {@code standardDeviation}. Negative samples are
+     * returned as zero.
+     *
+     * @param mean              mean latency
+     * @param standardDeviation standard deviation
+     * @return the distribution
+     */
+    static LatencyDistribution normal(final Duration mean, final Duration standardDeviation) {
+        return new LatencyDistributions.Normal(
+                LatencyDistributions.nanos(mean, "mean"),
+                LatencyDistributions.nanos(standardDeviation, "standardDeviation")
+        );
+    }
+
+    /**
+     * Returns a log-normal distribution with the given {@code median}, where {@code sigma} is the standard deviation
+     * of the logarithm of the latency. Larger values of {@code sigma} give longer tails.
+     *
+     * @param median median latency, must be positive
+     * @param sigma  shape of the distribution, must not be negative
+     * @return the distribution
+     */
+    static LatencyDistribution logNormal(final Duration median, final double sigma) {
+        final long medianNanos = LatencyDistributions.nanos(median, "median");
+        if (medianNanos == 0) {
+            throw new IllegalArgumentException("median must be positive");
+        }
+        if (!(sigma >= 0)) {
+            throw new IllegalArgumentException("sigma must not be negative");
+        }
+        return new LatencyDistributions.LogNormal(Math.log(medianNanos), sigma);
+    }
+
+    /**
+     * Returns a Pareto distribution, where {@code minimum} is the smallest possible latency and {@code shape} is the
+     * tail index. Smaller values of {@code shape} give heavier tails, and the mean is infinite if it is at most
+     * {@code 1}, so the distribution should usually be {@link #capped(Duration)}.
+     *
+     * @param minimum minimum latency, must be positive
+     * @param shape   tail index, must be positive
+     * @return the distribution
+     */
+    static LatencyDistribution pareto(final Duration minimum, final double shape) {
+        final long minimumNanos = LatencyDistributions.nanos(minimum, "minimum");
+        if (minimumNanos == 0) {
+            throw new IllegalArgumentException("minimum must be positive");
+        }
+        if (!(shape > 0)) {
+            throw new IllegalArgumentException("shape must be positive");
+        }
+        return new LatencyDistributions.Pareto(minimumNanos, -1d / shape);
+    }
+
+    /**
+     * Returns an exponential distribution with the given {@code mean}.
+     *
+     * @param mean mean latency
+     * @return the distribution
+     */
+    static LatencyDistribution exponential(final Duration mean) {
+        return new LatencyDistributions.Exponential(LatencyDistributions.nanos(mean, "mean"));
+    }
+
+    /**
+     * Returns an empirical distribution, where each of the given {@code latencies} is sampled proportionally to the
+     * count at the same index in {@code counts}.
+     *
+     * @param latencies latencies
+     * @param counts    the number of times each latency was recorded
+     * @param unit      unit of the latencies
+     * @return the distribution
+     */
+    static LatencyDistribution empirical(final long[] latencies, final long[] counts, final TimeUnit unit) {
+        Objects.requireNonNull(latencies, "latencies");
+        Objects.requireNonNull(counts, "counts");
+        Objects.requireNonNull(unit, "unit");
+        return LatencyDistributions.Empirical.of(latencies, counts, unit);
+    }
+
+    /**
+     * Returns an empirical distribution loaded from the latency histogram in the given {@code file}.
+     *
+     * <p>Blank lines and lines starting with {@code #} are ignored, and so are lines that do not start with a number,
+     * such as column headers. Lines with two columns are read as a latency followed by the number of times it was
+     * recorded. Lines with more columns are read as the percentile distribution output of HdrHistogram, where the
+     * first column is the latency and the third column is the total count up until that latency.</p>
+     *
+     * @param file histogram file
+     * @param unit unit of the latencies in the file
+     * @return the distribution
+     * @throws IOException if the file cannot be read
+     */
+    static LatencyDistribution empirical(final Path file, final TimeUnit unit) throws IOException {
+        Objects.requireNonNull(file, "file");
+        Objects.requireNonNull(unit, "unit");
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            return LatencyDistributions.Empirical.parse(reader, unit);
+        }
+    }
+
+    /**
+     * Samples a latency from the distribution.
+     *
+     * @param random source of randomness
+     * @return the latency in nanoseconds, never negative
+     */
+    long sampleNanos(RandomGenerator random);
+
+    /**
+     * Returns a distribution that samples {@code this} distribution, and returns {@code maximum} instead of any
+     * latency that exceeds it.
+     *
+     * @param maximum maximum latency
+     * @return the distribution
+     */
+    default LatencyDistribution capped(final Duration maximum) {
+        return new LatencyDistributions.Capped(this, LatencyDistributions.nanos(maximum, "maximum"));
+    }
+}
@@ -0,0 +1,240 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.disruption;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+import org.apiguardian.api.API;
+
+/**
+ * The built-in {@link LatencyDistribution} implementations.
+ *
+ * @since 1.0.0
+ */
+@API(status = API.Status.INTERNAL, since = "1.0.0")
+final class LatencyDistributions {
+
+    private LatencyDistributions() {
+    }
+
+    static long nanos(final Duration duration, final String name) {
+        Objects.requireNonNull(duration, name);
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException(name + " must not be negative");
+        }
+        // Saturates rather than overflows for durations that do not fit in a long.
+        return duration.compareTo(Duration.ofNanos(Long.MAX_VALUE)) >= 0 ? Long.MAX_VALUE : duration.toNanos();
+    }
+
+    static long nanos(final double nanos) {
+        // Casting saturates at Long.MAX_VALUE and maps NaN to 0.
+        return nanos > 0 ? (long) nanos : 0L;
+    }
+
+    record Constant(long nanos) implements LatencyDistribution {
+
+        @Override
+        public long sampleNanos(final RandomGenerator random) {
+            return this.nanos;
+        }
+    }
+
+    record Uniform(long minimum, long maximum) implements LatencyDistribution {
+
+        @Override
+        public long sampleNanos(final RandomGenerator random) {
+            if (this.minimum == this.maximum) {
+                return this.minimum;
+            }
+            if (this.maximum == Long.MAX_VALUE) {
+                return random.nextLong(this.minimum, this.maximum);
+            }
+            return random.nextLong(this.minimum, this.maximum + 1);
+        }
+    }
+
+    record Normal(double mean, double standardDeviation) implements LatencyDistribution {
+
+        @Override
+        public long sampleNanos(final RandomGenerator random) {
+            return nanos(random.nextGaussian(this.mean, this.standardDeviation));
+        }
+    }
+
+    record LogNormal(double mu, double sigma) implements LatencyDistribution {
+
+        @Override
+        public long sampleNanos(final RandomGenerator random) {
+            return nanos(Math.exp(random.nextGaussian(this.mu, this.sigma)));
+        }
+    }
+
+    record Pareto(double minimum, double exponent) implements LatencyDistribution {
+
+        @Override
+        public long sampleNanos(final RandomGenerator random) {
+            // Inverse transform sampling, 1 - nextDouble() is in (0, 1] so the power is always finite.
+            return nanos(this.minimum * Math.pow(1d - random.nextDouble(), this.exponent));
+        }
+    }
+
+    record Exponential(double mean) implements LatencyDistribution {
+
+        @Override
+        public long sampleNanos(final RandomGenerator random) {
+            return nanos(this.mean * random.nextExponential());
+        }
+    }
+
+    record Capped(LatencyDistribution distribution, long maximum) implements LatencyDistribution {
+
+        @Override
+        public long sampleNanos(final RandomGenerator random) {
+            return Math.min(this.distribution.sampleNanos(random), this.maximum);
+        }
+    }
+
+    /**
+     * Empirical distribution, sampled by binary searching a uniformly random count in the cumulative counts.
+     *
+     * @param latencies  latencies in nanoseconds, in ascending order
+     * @param cumulative cumulative counts, where {@code cumulative[i]} is the number of recorded latencies up to and
+     *                   including {@code latencies[i]}
+     */
+    record Empirical(long[] latencies, long[] cumulative) implements LatencyDistribution {
+
+        static Empirical of(final long[] latencies, final long[] counts, final TimeUnit unit) {
+            final long[] nanos = new long[latencies.length];
+            for (int i = 0; i < latencies.length; i++) {
+                nanos[i] = unit.toNanos(latencies[i]);
+            }
+            return of(nanos, counts);
+        }
+
+        private static Empirical of(final long[] latencies, final long[] counts) {
+            if (latencies.length != counts.length) {
+                throw new IllegalArgumentException("There must be as many counts as there are latencies");
+            }
+            final Integer[] order = new Integer[latencies.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (first, second) -> Long.compare(latencies[first], latencies[second]));
+
+            final long[] sortedLatencies = new long[latencies.length];
+            final long[] cumulative = new long[latencies.length];
+            long total = 0;
+            for (int i = 0; i < order.length; i++) {
+                final long latency = latencies[order[i]];
+                final long count = counts[order[i]];
+                if (latency < 0 || count < 0) {
+                    throw new IllegalArgumentException("Latencies and counts must not be negative");
+                }
+                total = Math.addExact(total, count);
+                sortedLatencies[i] = latency;
+                cumulative[i] = total;
+            }
+            if (total == 0) {
+                throw new IllegalArgumentException("At least one latency must have been recorded");
+            }
+            return new Empirical(sortedLatencies, cumulative);
+        }
+
+        static Empirical parse(final BufferedReader reader, final TimeUnit unit) throws IOException {
+            long[] latencies = new long[64];
+            long[] counts = new long[64];
+            int size = 0;
+            long previousTotal = 0;
+            final double nanosPerUnit = unit.toNanos(1L);
+
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                final String trimmed = line.trim();
+                if (trimmed.isEmpty() || trimmed.charAt(0) == '#' || !isNumber(trimmed.charAt(0))) {
+                    continue;
+                }
+                final String[] columns = trimmed.split("\\s+");
+                final long latency;
+                final long count;
+                try {
+                    // The latencies may be fractional, as HdrHistogram scales them to the output unit.
+                    latency = nanos(Double.parseDouble(columns[0]) * nanosPerUnit);
+                    if (columns.length == 2) {
+                        count = Long.parseLong(columns[1]);
+                    } else if (columns.length > 2) {
+                        final long total = Math.round(Double.parseDouble(columns[2]));
+                        count = total - previousTotal;
+                        previousTotal = total;
+                    } else {
+                        throw new IOException("Expected at least two columns on line " + lineNumber);
+                    }
+                } catch (final NumberFormatException exception) {
+                    throw new IOException("Invalid number on line " + lineNumber, exception);
+                }
+
+                if (size == latencies.length) {
+                    latencies = Arrays.copyOf(latencies, size * 2);
+                    counts = Arrays.copyOf(counts, size * 2);
+                }
+                latencies[size] = latency;
+                counts[size] = count;
+                size++;
+            }
+
+            try {
+                return of(Arrays.copyOf(latencies, size), Arrays.copyOf(counts, size));
+            } catch (final IllegalArgumentException exception) {
+                throw new IOException("Invalid histogram: " + exception.getMessage(), exception);
+            }
+        }
+
+        private static boolean isNumber(final char character) {
+            return (character >= '0' && character <= '9') || character == '.';
+        }
+
+        @Override
+        public long sampleNanos(final RandomGenerator random) {
+            final long target = random.nextLong(this.cumulative[this.cumulative.length - 1]);
+            // Find the first latency whose cumulative count exceeds the target.
+            int low = 0;
+            int high = this.cumulative.length - 1;
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                if (this.cumulative[middle] > target) {
+                    high = middle;
+                } else {
+                    low = middle + 1;
+                }
+            }
+            return this.latencies[low];
+        }
+    }
+}
@@ -0,0 +1,100 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.disruption;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.apiguardian.api.API;
+import org.incendo.disruptor.DisruptionException;
+import org.incendo.disruptor.DisruptorContext;
+
+/**
+ * Delay that parks for the bulk of the delay, and then spins until the deadline.
+ *
+ * <p>Parking overshoots by the timer slack and the scheduling latency of the OS, which is in the order of 50 to 100
+ * microseconds on Linux. By waking up {@code spinThresholdNanos} before the deadline and spinning the rest of the way,
+ * the delay ends within a few microseconds of the deadline, at the cost of keeping a core busy while spinning.</p>
+ *
+ * @since 1.0.0
+ */
+@API(status = API.Status.INTERNAL, since = "1.0.0")
+record PreciseDelay(LatencyDistribution distribution, long spinThresholdNanos) implements Disruption {
+
+    // Below this, the thread spins instead of yielding, as yielding may not return before the deadline.
+    private static final long YIELD_THRESHOLD_NANOS = TimeUnit.MICROSECONDS.toNanos(20L);
+
+    @Override
+    public String type() {
+        return "delay";
+    }
+
+    @Override
+    public void trigger(final DisruptorContext context) {
+        final long nanos = this.distribution.sampleNanos(ThreadLocalRandom.current());
+        final long start = System.nanoTime();
+        final long deadline = start + nanos;
+        long remaining = nanos;
+        while (remaining > this.spinThresholdNanos) {
+            LockSupport.parkNanos(this, remaining - this.spinThresholdNanos);
+            if (Thread.interrupted()) {
+                throw new DisruptionException(new InterruptedException());
+            }
+            remaining = deadline - System.nanoTime();
+        }
+        spinUntil(deadline);
+        PreciseDelayEvent.emit(context.group(), nanos, System.nanoTime() - start);
+    }
+
+    @Override
+    public CompletionStage<Void> triggerAsync(final DisruptorContext context) {
+        final long nanos = this.distribution.sampleNanos(ThreadLocalRandom.current());
+        final long start = System.nanoTime();
+        final long deadline = start + nanos;
+        // The timer waits for the bulk of the delay without blocking a thread, and the common pool spins the rest.
+        // Spinning on the timer thread would be more precise, but the dependent stages would then run on the shared
+        // JDK timer, so the precision is bounded by how fast the common pool picks up the task.
+        return CompletableFuture.runAsync(
+                () -> {
+                    spinUntil(deadline);
+                    PreciseDelayEvent.emit(context.group(), nanos, System.nanoTime() - start);
+                },
+                CompletableFuture.delayedExecutor(Math.max(0L, nanos - this.spinThresholdNanos), TimeUnit.NANOSECONDS)
+        );
+    }
+
+    private static void spinUntil(final long deadline) {
+        long remaining = deadline - System.nanoTime();
+        while (remaining > 0L) {
+            if (remaining > YIELD_THRESHOLD_NANOS) {
+                Thread.yield();
+            } else {
+                Thread.onSpinWait();
+            }
+            remaining = deadline - System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.disruption;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+import org.apiguardian.api.API;
+
+@API(status = API.Status.INTERNAL, since = "1.0.0")
+@Name("org.incendo.disruptor.PreciseDelay")
+@Label("Precise Delay")
+@Category("Disruptor")
+@Description("A precise delay is over, with the delay that was requested and the delay that was achieved")
+final class PreciseDelayEvent extends Event {
+
+    @Label("Group")
+    private String group;
+
+    @Label("Requested Delay")
+    @Timespan(Timespan.NANOSECONDS)
+    private long requested;
+
+    @Label("Achieved Delay")
+    @Timespan(Timespan.NANOSECONDS)
+    private long achieved;
+
+    @Label("Overshoot")
+    @Description("The difference between the achieved and the requested delay")
+    @Timespan(Timespan.NANOSECONDS)
+    private long overshoot;
+
+    /**
+     * Emits the event, if it is enabled.
+     *
+     * @param group     group name
+     * @param requested requested delay, in nanoseconds
+     * @param achieved  achieved delay, in nanoseconds
+     */
+    static void emit(final String group, final long requested, final long achieved) {
+        final PreciseDelayEvent event = new PreciseDelayEvent();
+        if (!event.isEnabled()) {
+            return;
+        }
+        event.group = group;
+        event.requested = requested;
+        event.achieved = achieved;
+        event.overshoot = achieved - requested;
+        event.commit();
+    }
+}
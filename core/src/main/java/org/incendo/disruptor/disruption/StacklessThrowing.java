@@ -0,0 +1,87 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.disruption;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.apiguardian.api.API;
+import org.incendo.disruptor.DisruptionException;
+import org.incendo.disruptor.DisruptorContext;
+
+@API(status = API.Status.INTERNAL, since = "1.0.0")
+final class StacklessThrowing implements Disruption {
+
+    private static final StackTraceElement[] NO_STACK_TRACE = new StackTraceElement[0];
+
+    private final RuntimeException exception;
+    private final Supplier<? extends RuntimeException> sampled;
+    private final int stackTraceEvery;
+    private final AtomicLong throwCount = new AtomicLong();
+
+    private StacklessThrowing(
+            final RuntimeException exception,
+            final Supplier<? extends RuntimeException> sampled,
+            final int stackTraceEvery
+    ) {
+        this.exception = exception;
+        this.sampled = sampled;
+        this.stackTraceEvery = stackTraceEvery;
+    }
+
+    static StacklessThrowing of(final String message, final int stackTraceEvery) {
+        return new StacklessThrowing(
+                new DisruptionException(message, false /* writableStackTrace */),
+                () -> new DisruptionException(message, true /* writableStackTrace */),
+                stackTraceEvery
+        );
+    }
+
+    static StacklessThrowing of(final Supplier<? extends Throwable> factory, final int stackTraceEvery) {
+        final Throwable throwable = Objects.requireNonNull(factory.get(), "factory returned null");
+        // The stack trace of the factory is misleading, as the exception is thrown from the disrupted invocations.
+        throwable.setStackTrace(NO_STACK_TRACE);
+        final RuntimeException exception = throwable instanceof RuntimeException runtimeException
+                ? runtimeException
+                : new DisruptionException(throwable, false /* writableStackTrace */);
+        return new StacklessThrowing(exception, () -> {
+            final Throwable sampled = Objects.requireNonNull(factory.get(), "factory returned null");
+            return sampled instanceof RuntimeException runtimeException ? runtimeException : new DisruptionException(sampled);
+        }, stackTraceEvery);
+    }
+
+    @Override
+    public String type() {
+        return "exception";
+    }
+
+    @Override
+    public void trigger(final DisruptorContext context) {
+        // The counter is only touched in the sampled mode, so the plain mode stays free of shared writes.
+        if (this.stackTraceEvery > 0 && this.throwCount.incrementAndGet() % this.stackTraceEvery == 0) {
+            throw this.sampled.get();
+        }
+        throw this.exception;
+    }
+}
@@ -31,6 +31,11 @@ import org.incendo.disruptor.DisruptorContext;
 @API(status = API.Status.INTERNAL, since = "1.0.0")
 record Throwing(Function<DisruptorContext, Throwable> throwableSupplier) implements Disruption {
 
+    @Override
+    public String type() {
+        return "exception";
+    }
+
     @Override
     public void trigger(final DisruptorContext context) {
         final Throwable throwable = this.throwableSupplier.apply(context);
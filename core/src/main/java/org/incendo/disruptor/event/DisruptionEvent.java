@@ -0,0 +1,51 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.event;
+
+import java.time.Instant;
+import org.apiguardian.api.API;
+
+/**
+ * A disruption that has been recorded by a {@link DisruptionEventRecorder}.
+ *
+ * @param timestamp     the time at which the disruption was over
+ * @param group         group name
+ * @param config        index of the configuration in {@link org.incendo.disruptor.DisruptorGroup#configurations()}
+ * @param disruption    index of the disruption in {@link org.incendo.disruptor.DisruptionConfig#disruptions()}
+ * @param type          the {@link org.incendo.disruptor.disruption.Disruption#type() type} of the disruption
+ * @param durationNanos time spent in the disruption, in nanoseconds
+ * @param failed        whether the disruption threw an exception
+ * @since 1.0.0
+ */
+@API(status = API.Status.STABLE, since = "1.0.0")
+public record DisruptionEvent(
+        Instant timestamp,
+        String group,
+        int config,
+        int disruption,
+        String type,
+        long durationNanos,
+        boolean failed
+) {
+}
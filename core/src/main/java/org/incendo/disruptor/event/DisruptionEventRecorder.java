@@ -0,0 +1,250 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.event;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.apiguardian.api.API;
+import org.incendo.disruptor.DisruptorGroup;
+import org.incendo.disruptor.DisruptorListener;
+import org.incendo.disruptor.GroupListener;
+import org.incendo.disruptor.disruption.Disruption;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Listener that records every disruption into a bounded ring buffer, which is drained into a
+ * {@link DisruptionEventSink} by a background thread.
+ *
+ * <p>Recording an event copies a handful of primitives into the ring, and never blocks or allocates on the disrupted
+ * thread. Resolving the group names and the disruption types, building the {@link DisruptionEvent events} and the sink
+ * I/O all happen on the drainer thread. If the ring is full because the sink cannot keep up, the event is dropped and
+ * counted in {@link #overflowCount()}.</p>
+ *
+ * <p>The drainer backs off while the ring is empty, and then only checks it every {@code 100} milliseconds, so the
+ * capacity of the ring should hold the events of a burst of that length.</p>
+ *
+ * <pre>{@code
+ * final DisruptionEventRecorder recorder = DisruptionEventRecorder.start(DisruptionEventSink.logging());
+ * final Disruptor disruptor = Disruptor.builder()
+ *         .listener(recorder)
+ *         // ...
+ *         .build();
+ * }</pre>
+ *
+ * @since 1.0.0
+ */
+@API(status = API.Status.STABLE, since = "1.0.0")
+public final class DisruptionEventRecorder implements DisruptorListener, AutoCloseable {
+
+    /**
+     * The default capacity of the ring buffer.
+     */
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DisruptionEventRecorder.class);
+    private static final long MIN_IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1L);
+    private static final long MAX_IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100L);
+    private static final int DRAIN_BATCH = 256;
+
+    private final EventRing ring;
+    private final DisruptionEventSink sink;
+    // The group names and the disruption types, indexed by the ids that are stored in the ring. The type of each event
+    // is resolved by the listener of the binding that recorded it, so the events recorded before a reload keep the type
+    // they had, and the tables only grow with the number of distinct names and types.
+    private final List<String> groups = new CopyOnWriteArrayList<>();
+    private final Map<String, Integer> groupIds = new HashMap<>();
+    private final List<String> types = new CopyOnWriteArrayList<>();
+    private final Map<String, Integer> typeIds = new HashMap<>();
+    private final LongAdder overflows = new LongAdder();
+    private final Thread drainer;
+    private volatile boolean closed;
+
+    private DisruptionEventRecorder(final int capacity, final DisruptionEventSink sink) {
+        this.ring = new EventRing(capacity);
+        this.sink = sink;
+        this.drainer = new Thread(this::run, "disruptor-event-drainer");
+        this.drainer.setDaemon(true);
+    }
+
+    /**
+     * Starts a recorder with a ring buffer of {@link #DEFAULT_CAPACITY} events.
+     *
+     * @param sink sink that receives the events
+     * @return the recorder
+     */
+    public static DisruptionEventRecorder start(final DisruptionEventSink sink) {
+        return start(DEFAULT_CAPACITY, sink);
+    }
+
+    /**
+     * Starts a recorder with a ring buffer of at least {@code capacity} events.
+     *
+     * @param capacity minimum capacity of the ring buffer, which is rounded up to a power of two
+     * @param sink     sink that receives the events
+     * @return the recorder
+     */
+    public static DisruptionEventRecorder start(final int capacity, final DisruptionEventSink sink) {
+        Objects.requireNonNull(sink, "sink");
+        final DisruptionEventRecorder recorder = new DisruptionEventRecorder(capacity, sink);
+        recorder.drainer.start();
+        return recorder;
+    }
+
+    @Override
+    public synchronized GroupListener group(final String name, final DisruptorGroup group) {
+        final int[][] types = new int[group.configurations().size()][];
+        for (int i = 0; i < types.length; i++) {
+            final List<Disruption> disruptions = group.configurations().get(i).disruptions();
+            types[i] = new int[disruptions.size()];
+            for (int j = 0; j < types[i].length; j++) {
+                types[i][j] = id(this.types, this.typeIds, disruptions.get(j).type());
+            }
+        }
+        return new RecordingGroupListener(this, id(this.groups, this.groupIds, name), types);
+    }
+
+    /**
+     * Returns the number of events that were dropped, because the ring buffer was full or the recorder was closed.
+     *
+     * @return the overflow count
+     */
+    public long overflowCount() {
+        return this.overflows.sum();
+    }
+
+    /**
+     * Stops the drainer thread, after draining the events that have been recorded so far.
+     * Events recorded after the recorder has been closed are dropped.
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        LockSupport.unpark(this.drainer);
+        boolean interrupted = false;
+        while (this.drainer.isAlive()) {
+            try {
+                this.drainer.join();
+            } catch (final InterruptedException exception) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void record(
+            final int group,
+            final int config,
+            final int disruption,
+            final int type,
+            final long durationNanos,
+            final boolean failed
+    ) {
+        if (this.closed
+                || !this.ring.offer(System.currentTimeMillis(), group, config, disruption, type, durationNanos, failed)) {
+            this.overflows.increment();
+        }
+    }
+
+    private void run() {
+        final EventRing.Consumer consumer = this::publish;
+        long idlePark = MIN_IDLE_PARK_NANOS;
+        while (true) {
+            // The flag is read before draining, so that the events recorded before closing are drained.
+            final boolean closing = this.closed;
+            final int drained = this.ring.drain(consumer, DRAIN_BATCH);
+            if (drained == DRAIN_BATCH) {
+                continue;
+            }
+            if (closing) {
+                return;
+            }
+            // Back off exponentially while the ring stays empty, to avoid waking up a thousand times per second.
+            idlePark = drained > 0 ? MIN_IDLE_PARK_NANOS : Math.min(idlePark << 1, MAX_IDLE_PARK_NANOS);
+            LockSupport.parkNanos(this, idlePark);
+        }
+    }
+
+    private void publish(
+            final long timestamp,
+            final int group,
+            final int config,
+            final int disruption,
+            final int type,
+            final long durationNanos,
+            final boolean failed
+    ) {
+        final DisruptionEvent event = new DisruptionEvent(
+                Instant.ofEpochMilli(timestamp),
+                this.groups.get(group),
+                config,
+                disruption,
+                this.types.get(type),
+                durationNanos,
+                failed
+        );
+        try {
+            this.sink.accept(event);
+        } catch (final Throwable throwable) {
+            // The drainer must survive any failure of the sink, or every later event would be dropped.
+            LOGGER.warn("Disruption event sink failed to accept {}", event, throwable);
+        }
+    }
+
+    private static int id(final List<String> values, final Map<String, Integer> ids, final String value) {
+        final Integer existing = ids.get(value);
+        if (existing != null) {
+            return existing;
+        }
+        values.add(value);
+        ids.put(value, values.size() - 1);
+        return values.size() - 1;
+    }
+
+    private record RecordingGroupListener(
+            DisruptionEventRecorder recorder,
+            int group,
+            int[][] types
+    ) implements GroupListener {
+
+        @Override
+        public void evaluated(final int config, final boolean triggered) {
+        }
+
+        @Override
+        public void disrupted(final int config, final int disruption, final long durationNanos, final @Nullable Throwable failure) {
+            this.recorder.record(this.group, config, disruption, this.types[config][disruption], durationNanos, failure != null);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.event;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.apiguardian.api.API;
+
+/**
+ * Bounded multi-producer single-consumer ring of disruption events, stored in parallel primitive arrays.
+ *
+ * <p>Each slot has a sequence number, following the bounded queue design by Dmitry Vyukov: a slot whose sequence
+ * equals the producer position is free, and a slot whose sequence is one past the consumer position is published.
+ * Producers claim a position using compare-and-set and never wait for each other or for the consumer. When the ring is
+ * full the event is rejected, and the caller decides what to do with it.</p>
+ *
+ * @since 1.0.0
+ */
+@API(status = API.Status.INTERNAL, since = "1.0.0")
+final class EventRing {
+
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final long[] timestamps;
+    private final int[] groups;
+    private final int[] configs;
+    private final int[] disruptions;
+    private final int[] types;
+    private final long[] durations;
+    private final boolean[] failures;
+    private final AtomicLong producerPosition = new AtomicLong();
+    // Only accessed by the consumer.
+    private long consumerPosition;
+
+    /**
+     * Creates a new ring.
+     *
+     * @param capacity capacity, which is rounded up to the next power of two
+     */
+    EventRing(final int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30");
+        }
+        final int size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.mask = size - 1;
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            this.sequences.set(i, i);
+        }
+        this.timestamps = new long[size];
+        this.groups = new int[size];
+        this.configs = new int[size];
+        this.disruptions = new int[size];
+        this.types = new int[size];
+        this.durations = new long[size];
+        this.failures = new boolean[size];
+    }
+
+    /**
+     * Returns the capacity of the ring.
+     *
+     * @return the capacity
+     */
+    int capacity() {
+        return this.mask + 1;
+    }
+
+    /**
+     * Publishes an event, unless the ring is full.
+     *
+     * @param timestamp     epoch millis
+     * @param group         group id
+     * @param config        index of the configuration
+     * @param disruption    index of the disruption
+     * @param type          disruption type id
+     * @param durationNanos duration of the disruption
+     * @param failed        whether the disruption threw
+     * @return whether the event was published
+     */
+    boolean offer(
+            final long timestamp,
+            final int group,
+            final int config,
+            final int disruption,
+            final int type,
+            final long durationNanos,
+            final boolean failed
+    ) {
+        long position = this.producerPosition.get();
+        while (true) {
+            final int slot = (int) position & this.mask;
+            final long difference = this.sequences.get(slot) - position;
+            if (difference == 0) {
+                if (this.producerPosition.compareAndSet(position, position + 1)) {
+                    this.timestamps[slot] = timestamp;
+                    this.groups[slot] = group;
+                    this.configs[slot] = config;
+                    this.disruptions[slot] = disruption;
+                    this.types[slot] = type;
+                    this.durations[slot] = durationNanos;
+                    this.failures[slot] = failed;
+                    // The release store publishes the plain writes above to the consumer.
+                    this.sequences.lazySet(slot, position + 1);
+                    return true;
+                }
+                position = this.producerPosition.get();
+            } else if (difference < 0) {
+                // The consumer has not freed the slot yet.
+                return false;
+            } else {
+                // Another producer claimed the position.
+                position = this.producerPosition.get();
+            }
+        }
+    }
+
+    /**
+     * Consumes the published events, in publication order, until the ring is empty or {@code limit} events
+     * have been consumed. Must only be invoked by a single thread at a time.
+     *
+     * @param consumer event consumer
+     * @param limit    maximum number of events to consume
+     * @return the number of consumed events
+     */
+    int drain(final Consumer consumer, final int limit) {
+        int drained = 0;
+        while (drained < limit) {
+            final long position = this.consumerPosition;
+            final int slot = (int) position & this.mask;
+            if (this.sequences.get(slot) != position + 1) {
+                break;
+            }
+            consumer.accept(
+                    this.timestamps[slot],
+                    this.groups[slot],
+                    this.configs[slot],
+                    this.disruptions[slot],
+                    this.types[slot],
+                    this.durations[slot],
+                    this.failures[slot]
+            );
+            this.sequences.lazySet(slot, position + this.mask + 1);
+            this.consumerPosition = position + 1;
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * Consumer of the events of the ring.
+     */
+    @FunctionalInterface
+    interface Consumer {
+
+        /**
+         * Consumes an event.
+         *
+         * @param timestamp     epoch millis
+         * @param group         group id
+         * @param config        index of the configuration
+         * @param disruption    index of the disruption
+         * @param type          disruption type id
+         * @param durationNanos duration of the disruption
+         * @param failed        whether the disruption threw
+         */
+        void accept(long timestamp, int group, int config, int disruption, int type, long durationNanos, boolean failed);
+    }
+}
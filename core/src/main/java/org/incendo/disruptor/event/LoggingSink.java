@@ -0,0 +1,56 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.event;
+
+import java.util.concurrent.TimeUnit;
+import org.apiguardian.api.API;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@API(status = API.Status.INTERNAL, since = "1.0.0")
+final class LoggingSink implements DisruptionEventSink {
+
+    static final LoggingSink INSTANCE = new LoggingSink();
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DisruptionEvent.class);
+
+    private LoggingSink() {
+    }
+
+    @Override
+    public void accept(final DisruptionEvent event) {
+        if (!LOGGER.isInfoEnabled()) {
+            return;
+        }
+        LOGGER.info(
+                "Disruption {} of config {} in group {} {} at {} after {}ms",
+                event.type(),
+                event.config(),
+                event.group(),
+                event.failed() ? "failed" : "ended",
+                event.timestamp(),
+                TimeUnit.NANOSECONDS.toMillis(event.durationNanos())
+        );
+    }
+}
@@ -0,0 +1,4 @@
+@NullMarked
+package org.incendo.disruptor.event;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,83 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+import org.apiguardian.api.API;
+
+@API(status = API.Status.INTERNAL, since = "1.0.0")
+@Name("org.incendo.disruptor.GroupStatistics")
+@Label("Disruptor Group Statistics")
+@Category("Disruptor")
+@Description("Counters of a disruptor group, since the group was bound")
+@Period("1 s")
+@StackTrace(false)
+final class GroupStatisticsEvent extends Event {
+
+    @Label("Group")
+    private String group;
+
+    @Label("Evaluations")
+    private long evaluations;
+
+    @Label("Triggers")
+    private long triggers;
+
+    @Label("Disruptions")
+    private long disruptions;
+
+    @Label("Failures")
+    private long failures;
+
+    /**
+     * Emits the event.
+     *
+     * @param group       group name
+     * @param evaluations number of trigger evaluations
+     * @param triggers    number of triggers that fired
+     * @param disruptions number of disruptions
+     * @param failures    number of disruptions that threw
+     */
+    static void emit(
+            final String group,
+            final long evaluations,
+            final long triggers,
+            final long disruptions,
+            final long failures
+    ) {
+        final GroupStatisticsEvent event = new GroupStatisticsEvent();
+        event.group = group;
+        event.evaluations = evaluations;
+        event.triggers = triggers;
+        event.disruptions = disruptions;
+        event.failures = failures;
+        event.commit();
+    }
+}
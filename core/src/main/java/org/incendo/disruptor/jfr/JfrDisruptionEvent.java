@@ -0,0 +1,100 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+
+@API(status = API.Status.INTERNAL, since = "1.0.0")
+@Name("org.incendo.disruptor.Disruption")
+@Label("Disruption")
+@Category("Disruptor")
+@Description("A disruption ran. The event spans the disruption, so that it lines up with the events it caused")
+final class JfrDisruptionEvent extends Event {
+
+    @Label("Group")
+    private String group;
+
+    @Label("Config")
+    @Description("Index of the config in the group")
+    private int config;
+
+    @Label("Disruption")
+    @Description("Index of the disruption in the config")
+    private int disruption;
+
+    @Label("Type")
+    private String type;
+
+    @Label("Failed")
+    @Description("Whether the disruption threw an exception")
+    private boolean failed;
+
+    /**
+     * Begins the event when a disruption starts, if it is enabled.
+     *
+     * @return the event, or {@code null} if it is not enabled
+     */
+    static @Nullable JfrDisruptionEvent start() {
+        final JfrDisruptionEvent event = new JfrDisruptionEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event once the disruption is over, and commits it if it passes the threshold of the recording.
+     *
+     * @param group      group name
+     * @param config     index of the configuration
+     * @param disruption index of the disruption
+     * @param type       disruption type
+     * @param failed     whether the disruption threw
+     */
+    void complete(
+            final String group,
+            final int config,
+            final int disruption,
+            final String type,
+            final boolean failed
+    ) {
+        this.end();
+        if (!this.shouldCommit()) {
+            return;
+        }
+        this.group = group;
+        this.config = config;
+        this.disruption = disruption;
+        this.type = type;
+        this.failed = failed;
+        this.commit();
+    }
+}
@@ -0,0 +1,163 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.jfr;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import jdk.jfr.FlightRecorder;
+import org.apiguardian.api.API;
+import org.incendo.disruptor.DisruptionConfig;
+import org.incendo.disruptor.DisruptorGroup;
+import org.incendo.disruptor.DisruptorListener;
+import org.incendo.disruptor.GroupListener;
+import org.incendo.disruptor.disruption.Disruption;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Listener that emits JDK Flight Recorder events, so that the disruptions can be lined up with the GC, lock and I/O
+ * events of the same recording.
+ *
+ * <p>The following events are emitted, in the {@code Disruptor} category:</p>
+ * <ul>
+ *     <li>{@code org.incendo.disruptor.Trigger} when the trigger of a configuration fires,</li>
+ *     <li>{@code org.incendo.disruptor.Disruption} spanning each disruption, with its type,</li>
+ *     <li>{@code org.incendo.disruptor.GroupStatistics} every second, with the counters of each group.</li>
+ * </ul>
+ *
+ * <p>Like every JFR event, the events are nearly free when they are not enabled in a recording. The group counters
+ * are {@link LongAdder LongAdders} that are always updated.</p>
+ *
+ * <pre>{@code
+ * final JfrDisruptorListener listener = new JfrDisruptorListener();
+ * final Disruptor disruptor = Disruptor.builder()
+ *         .listener(listener)
+ *         // ...
+ *         .build();
+ * }</pre>
+ *
+ * @since 1.0.0
+ */
+@API(status = API.Status.STABLE, since = "1.0.0")
+public final class JfrDisruptorListener implements DisruptorListener, AutoCloseable {
+
+    private final Map<String, JfrGroupListener> groups = new ConcurrentHashMap<>();
+    private final Runnable periodicHook = this::emitStatistics;
+
+    /**
+     * Creates a new listener, and registers the periodic statistics event.
+     */
+    public JfrDisruptorListener() {
+        FlightRecorder.addPeriodicEvent(GroupStatisticsEvent.class, this.periodicHook);
+    }
+
+    @Override
+    public GroupListener group(final String name, final DisruptorGroup group) {
+        final JfrGroupListener listener = new JfrGroupListener(name, group);
+        this.groups.put(name, listener);
+        return listener;
+    }
+
+    /**
+     * Unregisters the periodic statistics event. The trigger and disruption events are still emitted.
+     */
+    @Override
+    public void close() {
+        FlightRecorder.removePeriodicEvent(this.periodicHook);
+    }
+
+    private void emitStatistics() {
+        for (final JfrGroupListener listener : this.groups.values()) {
+            GroupStatisticsEvent.emit(
+                    listener.name,
+                    listener.evaluations.sum(),
+                    listener.triggers.sum(),
+                    listener.disruptions.sum(),
+                    listener.failures.sum()
+            );
+        }
+    }
+
+    private static final class JfrGroupListener implements GroupListener {
+
+        private final String name;
+        private final String[] modes;
+        private final String[][] types;
+        private final LongAdder evaluations = new LongAdder();
+        private final LongAdder triggers = new LongAdder();
+        private final LongAdder disruptions = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+
+        private JfrGroupListener(final String name, final DisruptorGroup group) {
+            this.name = name;
+            this.modes = group.configurations().stream().map(config -> config.mode().name()).toArray(String[]::new);
+            this.types = group.configurations().stream()
+                    .map(DisruptionConfig::disruptions)
+                    .map(disruptions -> disruptions.stream().map(Disruption::type).toArray(String[]::new))
+                    .toArray(String[][]::new);
+        }
+
+        @Override
+        public void evaluated(final int config, final boolean triggered) {
+            this.evaluations.increment();
+            if (!triggered) {
+                return;
+            }
+            this.triggers.increment();
+            TriggerEvent.emit(this.name, config, this.modes[config]);
+        }
+
+        @Override
+        public @Nullable Object disrupting(final int config, final int disruption) {
+            return JfrDisruptionEvent.start();
+        }
+
+        @Override
+        public void disrupted(
+                final int config,
+                final int disruption,
+                final long durationNanos,
+                final @Nullable Throwable failure
+        ) {
+            this.disrupted(config, disruption, durationNanos, failure, null);
+        }
+
+        @Override
+        public void disrupted(
+                final int config,
+                final int disruption,
+                final long durationNanos,
+                final @Nullable Throwable failure,
+                final @Nullable Object state
+        ) {
+            this.disruptions.increment();
+            if (failure != null) {
+                this.failures.increment();
+            }
+            if (state instanceof JfrDisruptionEvent event) {
+                event.complete(this.name, config, disruption, this.types[config][disruption], failure != null);
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.apiguardian.api.API;
+
+@API(status = API.Status.INTERNAL, since = "1.0.0")
+@Name("org.incendo.disruptor.Trigger")
+@Label("Disruption Trigger")
+@Category("Disruptor")
+@Description("The trigger of a disruption config fired")
+final class TriggerEvent extends Event {
+
+    @Label("Group")
+    private String group;
+
+    @Label("Config")
+    @Description("Index of the config in the group")
+    private int config;
+
+    @Label("Mode")
+    private String mode;
+
+    /**
+     * Emits the event, if it is enabled.
+     *
+     * @param group  group name
+     * @param config index of the configuration
+     * @param mode   mode of the configuration
+     */
+    static void emit(final String group, final int config, final String mode) {
+        // Allocating the event when it is disabled is optimized away, as it does not escape.
+        final TriggerEvent event = new TriggerEvent();
+        if (!event.isEnabled()) {
+            return;
+        }
+        event.group = group;
+        event.config = config;
+        event.mode = mode;
+        event.commit();
+    }
+}
@@ -0,0 +1,4 @@
+@NullMarked
+package org.incendo.disruptor.jfr;
+
+import org.jspecify.annotations.NullMarked;
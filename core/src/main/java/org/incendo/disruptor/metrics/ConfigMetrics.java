@@ -0,0 +1,92 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.metrics;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import org.apiguardian.api.API;
+import org.incendo.disruptor.DisruptionConfig;
+import org.incendo.disruptor.DisruptionMode;
+
+/**
+ * The metrics of a {@link DisruptionConfig}.
+ *
+ * @since 1.0.0
+ */
+@API(status = API.Status.STABLE, since = "1.0.0")
+public final class ConfigMetrics {
+
+    private final DisruptionMode mode;
+    private final List<DisruptionMetrics> disruptions;
+    private final LongAdder evaluations = new LongAdder();
+    private final LongAdder triggers = new LongAdder();
+
+    ConfigMetrics(final DisruptionConfig config) {
+        this.mode = config.mode();
+        this.disruptions = config.disruptions().stream().map(DisruptionMetrics::new).toList();
+    }
+
+    /**
+     * Returns the mode of the configuration.
+     *
+     * @return the mode
+     */
+    public DisruptionMode mode() {
+        return this.mode;
+    }
+
+    /**
+     * Returns the number of times that the trigger of the configuration has been evaluated.
+     *
+     * @return the number of evaluations
+     */
+    public long evaluations() {
+        return this.evaluations.sum();
+    }
+
+    /**
+     * Returns the number of times that the trigger of the configuration has fired.
+     *
+     * @return the number of triggers
+     */
+    public long triggers() {
+        return this.triggers.sum();
+    }
+
+    /**
+     * Returns the metrics of the disruptions, in the same order as {@link DisruptionConfig#disruptions()}.
+     *
+     * @return the disruption metrics
+     */
+    public List<DisruptionMetrics> disruptions() {
+        return this.disruptions;
+    }
+
+    void evaluated(final boolean triggered) {
+        this.evaluations.increment();
+        if (triggered) {
+            this.triggers.increment();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+import org.apiguardian.api.API;
+import org.incendo.disruptor.disruption.Disruption;
+
+/**
+ * The metrics of a {@link Disruption} in a configuration.
+ *
+ * @since 1.0.0
+ */
+@API(status = API.Status.STABLE, since = "1.0.0")
+public final class DisruptionMetrics {
+
+    private final String type;
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+
+    DisruptionMetrics(final Disruption disruption) {
+        this.type = disruption.type();
+    }
+
+    /**
+     * Returns the {@link Disruption#type()} of the disruption.
+     *
+     * @return the type
+     */
+    public String type() {
+        return this.type;
+    }
+
+    /**
+     * Returns the number of times that the disruption has been executed.
+     *
+     * @return the number of executions
+     */
+    public long executions() {
+        return this.executions.sum();
+    }
+
+    /**
+     * Returns the number of times that the disruption has thrown an exception, which is expected for disruptions
+     * that inject failures.
+     *
+     * @return the number of failures
+     */
+    public long failures() {
+        return this.failures.sum();
+    }
+
+    /**
+     * Returns the total time spent in the disruption, in nanoseconds. For delays, this is the injected latency.
+     *
+     * @return the total time
+     */
+    public long totalNanos() {
+        return this.totalNanos.sum();
+    }
+
+    void disrupted(final long durationNanos, final boolean failed) {
+        this.executions.increment();
+        this.totalNanos.add(durationNanos);
+        if (failed) {
+            this.failures.increment();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.metrics;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import org.apiguardian.api.API;
+import org.incendo.disruptor.DisruptorGroup;
+import org.incendo.disruptor.DisruptorListener;
+import org.incendo.disruptor.GroupListener;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Listener that counts the evaluations, triggers and disruptions of each group and configuration.
+ *
+ * <p>The counters are {@link java.util.concurrent.atomic.LongAdder LongAdders} that are resolved when the group is
+ * bound, so recording an event is a single striped increment and never contends between threads. Reading the counters
+ * is comparatively expensive, and the values are not an atomic snapshot across counters.</p>
+ *
+ * <p>When a {@link org.incendo.disruptor.ReloadableDisruptor} is reloaded, the groups are bound again. Groups that are
+ * bound to the same {@link DisruptorGroup} instance keep their metrics, while groups that changed get new metrics that
+ * start from zero, as their configurations may be entirely different.</p>
+ *
+ * <pre>{@code
+ * final DisruptorMetrics metrics = new DisruptorMetrics();
+ * final Disruptor disruptor = Disruptor.builder()
+ *         .listener(metrics)
+ *         // ...
+ *         .build();
+ * }</pre>
+ *
+ * @since 1.0.0
+ */
+@API(status = API.Status.STABLE, since = "1.0.0")
+public final class DisruptorMetrics implements DisruptorListener {
+
+    private final Map<String, GroupMetrics> groups = new ConcurrentHashMap<>();
+    private final List<Consumer<GroupMetrics>> bindListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates a new metrics listener.
+     */
+    public DisruptorMetrics() {
+    }
+
+    @Override
+    public synchronized GroupListener group(final String name, final DisruptorGroup group) {
+        final GroupMetrics existing = this.groups.get(name);
+        if (existing != null && existing.group() == group) {
+            return new MetricsGroupListener(existing);
+        }
+        final GroupMetrics metrics = new GroupMetrics(name, group);
+        this.groups.put(name, metrics);
+        this.bindListeners.forEach(listener -> listener.accept(metrics));
+        return new MetricsGroupListener(metrics);
+    }
+
+    /**
+     * Registers a consumer that is invoked with the new metrics whenever a group is bound for the first time, or is
+     * bound to a different {@link DisruptorGroup} than before. The metrics of the groups that have already been bound
+     * can be retrieved using {@link #groups()}.
+     *
+     * @param consumer consumer of the new group metrics
+     */
+    public void onGroupBound(final Consumer<GroupMetrics> consumer) {
+        Objects.requireNonNull(consumer, "consumer");
+        this.bindListeners.add(consumer);
+    }
+
+    /**
+     * Returns the metrics of the group with the given {@code name}, if the group has been bound.
+     *
+     * @param name group name
+     * @return the metrics
+     */
+    public Optional<GroupMetrics> group(final String name) {
+        Objects.requireNonNull(name, "name");
+        return Optional.ofNullable(this.groups.get(name));
+    }
+
+    /**
+     * Returns an unmodifiable view of the metrics of every group that has been bound, by group name.
+     *
+     * @return the metrics
+     */
+    public Map<String, GroupMetrics> groups() {
+        return Collections.unmodifiableMap(this.groups);
+    }
+
+    private record MetricsGroupListener(GroupMetrics metrics) implements GroupListener {
+
+        @Override
+        public void evaluated(final int config, final boolean triggered) {
+            this.metrics.configs().get(config).evaluated(triggered);
+        }
+
+        @Override
+        public void disrupted(
+                final int config,
+                final int disruption,
+                final long durationNanos,
+                final @Nullable Throwable failure
+        ) {
+            this.metrics.configs().get(config).disruptions().get(disruption).disrupted(durationNanos, failure != null);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.metrics;
+
+import java.util.List;
+import org.apiguardian.api.API;
+import org.incendo.disruptor.DisruptorGroup;
+
+/**
+ * The metrics of a group.
+ *
+ * @since 1.0.0
+ */
+@API(status = API.Status.STABLE, since = "1.0.0")
+public final class GroupMetrics {
+
+    private final String name;
+    private final DisruptorGroup group;
+    private final List<ConfigMetrics> configs;
+
+    GroupMetrics(final String name, final DisruptorGroup group) {
+        this.name = name;
+        this.group = group;
+        this.configs = group.configurations().stream().map(ConfigMetrics::new).toList();
+    }
+
+    /**
+     * Returns the name of the group.
+     *
+     * @return group name
+     */
+    public String name() {
+        return this.name;
+    }
+
+    /**
+     * Returns the group that the metrics were created for.
+     *
+     * @return the group
+     */
+    DisruptorGroup group() {
+        return this.group;
+    }
+
+    /**
+     * Returns the metrics of the configurations, in the same order as {@link DisruptorGroup#configurations()}.
+     *
+     * @return the configuration metrics
+     */
+    public List<ConfigMetrics> configs() {
+        return this.configs;
+    }
+}
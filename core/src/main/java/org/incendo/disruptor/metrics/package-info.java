@@ -0,0 +1,4 @@
+@NullMarked
+package org.incendo.disruptor.metrics;
+
+import org.jspecify.annotations.NullMarked;
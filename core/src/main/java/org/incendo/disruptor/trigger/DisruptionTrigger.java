@@ -44,9 +44,29 @@ public interface DisruptionTrigger {
      * @return the trigger
      */
     static DisruptionTrigger counting(final int targetInvocations) {
+        if (targetInvocations < 1) {
+            throw new IllegalArgumentException("targetInvocations must be positive");
+        }
         return new CountingTrigger(targetInvocations);
     }
 
+    /**
+     * Returns a trigger that activates once every {@code targetInvocations} invocations on average.
+     *
+     * <p>Unlike {@link #counting(int)}, the invocations are spread over several counters picked by the invoking thread,
+     * so threads invoking the trigger concurrently rarely contend with each other. In exchange, the trigger does not necessarily
+     * activate on exactly every {@code targetInvocations}th invocation.</p>
+     *
+     * @param targetInvocations target invocation count
+     * @return the trigger
+     */
+    static DisruptionTrigger approximateCounting(final int targetInvocations) {
+        if (targetInvocations < 1) {
+            throw new IllegalArgumentException("targetInvocations must be positive");
+        }
+        return new StripedCountingTrigger(targetInvocations);
+    }
+
     /**
      * Returns a trigger that activates randomly based on the given {@code chance} in the range 0 to 1.
      *
@@ -57,6 +77,23 @@ public interface DisruptionTrigger {
         return new RandomTrigger(chance);
     }
 
+    /**
+     * Returns a trigger that activates randomly based on the given {@code chance} in the range 0 to 1, using a
+     * deterministic sequence derived from the given {@code seed}.
+     *
+     * <p>The outcome of the nth evaluation only depends on the {@code seed} and {@code n}, so two triggers with the same
+     * seed activate on exactly the same evaluations. This makes it possible to reproduce the disruptions of a run.
+     * The evaluations are numbered using a shared counter, which makes this trigger more expensive under contention
+     * than {@link #random(float)}.</p>
+     *
+     * @param chance chance in the range [0, 1]
+     * @param seed   seed of the random sequence
+     * @return the trigger
+     */
+    static DisruptionTrigger random(final float chance, final long seed) {
+        return new SeededRandomTrigger(chance, seed);
+    }
+
     /**
      * Returns a trigger that never activates.
      *
@@ -88,17 +125,37 @@ public interface DisruptionTrigger {
 
     /**
      * Returns a variant of {@code this} trigger that will limit the activations to
-     * the given {@code limit} within the given {@code period}. Once the period has passed,
-     * the recorded invocation limit will be reset to 0 and the limit will start over.
+     * the given {@code limit} within the given {@code period}. Up to {@code limit} activations may happen in a burst,
+     * after which the activations are replenished continuously at a rate of {@code limit} per {@code period}.
+     *
+     * <p>This is equivalent to {@code limiting(limit, period, LimitingMode.BURST)}.</p>
      *
      * <p><b>Note:</b> This should be called <i>after</i> {@link #lasting(Duration)}, never <i>before</i>.</p>
      *
      * @param limit maximum allowed activations during the period
-     * @param period period after which the limit is reset
+     * @param period period over which the activations are replenished
      * @return the limiting trigger
      */
     default DisruptionTrigger limiting(final int limit, final Duration period) {
+        return this.limiting(limit, period, LimitingMode.BURST);
+    }
+
+    /**
+     * Returns a variant of {@code this} trigger that will limit the activations to
+     * the given {@code limit} within the given {@code period}, distributing them according to the given {@code mode}.
+     *
+     * <p>The limiting trigger never blocks, and only evaluates {@code this} trigger when an activation is allowed.</p>
+     *
+     * <p><b>Note:</b> This should be called <i>after</i> {@link #lasting(Duration)}, never <i>before</i>.</p>
+     *
+     * @param limit maximum allowed activations during the period
+     * @param period period over which the activations are replenished
+     * @param mode how the activations are distributed over the period
+     * @return the limiting trigger
+     */
+    default DisruptionTrigger limiting(final int limit, final Duration period, final LimitingMode mode) {
         Objects.requireNonNull(period, "period");
-        return new LimitingTrigger(limit, period, this);
+        Objects.requireNonNull(mode, "mode");
+        return new LimitingTrigger(limit, period, mode, this);
     }
 }
@@ -24,47 +24,50 @@
 package org.incendo.disruptor.trigger;
 
 import java.time.Duration;
-import java.time.Instant;
 import java.util.Objects;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apiguardian.api.API;
 import org.incendo.disruptor.DisruptorContext;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 @API(status = API.Status.INTERNAL, since = "1.0.0")
 final class LastingTrigger implements DisruptionTrigger {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(LastingTrigger.class);
+    // Deadlines are compared using the difference between two clock values, which only works
+    // as long as the difference fits in a long, so we cap the duration to half of the range.
+    private static final long MAX_DURATION_NANOS = Long.MAX_VALUE >> 1;
+    // The clock is only known once the trigger is evaluated, so the initial state cannot be a clock value.
+    private static final long NOT_STARTED = Long.MIN_VALUE;
 
-    private final Lock lock = new ReentrantLock();
-    private final Duration duration;
+    private final long durationNanos;
     private final DisruptionTrigger trigger;
 
-    private Instant disruptionEnd;
+    /**
+     * The {@link DisruptorContext#clock() clock} value at which the current disruption ends. Only the thread that starts
+     * a disruption updates the deadline, everyone else only reads it.
+     */
+    private final AtomicLong disruptionEnd;
 
     LastingTrigger(final Duration duration, final DisruptionTrigger trigger) {
-        this.duration = Objects.requireNonNull(duration, "duration");
+        Objects.requireNonNull(duration, "duration");
+        this.durationNanos = duration.compareTo(Duration.ofNanos(MAX_DURATION_NANOS)) > 0
+                ? MAX_DURATION_NANOS
+                : Math.max(0L, duration.toNanos());
         this.trigger = Objects.requireNonNull(trigger, "trigger");
-        this.disruptionEnd = Instant.EPOCH;
+        this.disruptionEnd = new AtomicLong(NOT_STARTED);
     }
 
     @Override
     public boolean shouldTrigger(final DisruptorContext context) {
-        this.lock.lock();
-        try {
-            if (Instant.now().isBefore(this.disruptionEnd)) {
-                return true;
-            }
-            if (!this.trigger.shouldTrigger(context)) {
-                return false;
-            }
-            this.disruptionEnd = Instant.now().plus(this.duration);
-            LOGGER.info("Lasting disruption for group {} started and will end at {}", context.group(), this.disruptionEnd);
+        final long disruptionEnd = this.disruptionEnd.get();
+        final long now = context.clock().nanoTime();
+        if (disruptionEnd != NOT_STARTED && now - disruptionEnd < 0) {
             return true;
-        } finally {
-            this.lock.unlock();
         }
+        if (!this.trigger.shouldTrigger(context)) {
+            return false;
+        }
+        // If another thread started a disruption in the meantime, then we are within that disruption.
+        this.disruptionEnd.compareAndSet(disruptionEnd, now + this.durationNanos);
+        return true;
     }
 }
@@ -24,63 +24,88 @@
 package org.incendo.disruptor.trigger;
 
 import java.time.Duration;
-import java.time.Instant;
 import java.util.Objects;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apiguardian.api.API;
 import org.incendo.disruptor.DisruptorContext;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
+/**
+ * Trigger that limits the activations of another trigger using a token bucket.
+ *
+ * <p>The bucket is implemented as a generic cell rate algorithm: the only state is the theoretical arrival time,
+ * which is the {@link DisruptorContext#clock() clock} value at which the bucket is full again. Each activation pushes it
+ * {@code period / limit} into the future, and an activation is only allowed if the theoretical arrival time is no
+ * further ahead than the tolerance of the {@link LimitingMode}. As the state is a single long, it is updated using
+ * compare-and-set and callers never block each other.</p>
+ *
+ * @since 1.0.0
+ */
 @API(status = API.Status.INTERNAL, since = "1.0.0")
 final class LimitingTrigger implements DisruptionTrigger {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(LastingTrigger.class);
+    private static final long MAX_PERIOD_NANOS = Long.MAX_VALUE >> 1;
+    // The clock is only known once the trigger is evaluated, so the initial state cannot be a clock value.
+    private static final long FULL = Long.MIN_VALUE;
 
-    private final Lock lock = new ReentrantLock();
-    private final Duration period;
     private final int limit;
+    private final long interval;
+    private final long tolerance;
     private final DisruptionTrigger trigger;
+    private final AtomicLong theoreticalArrival;
 
     LimitingTrigger(
             final int limit,
             final Duration period,
+            final LimitingMode mode,
             final DisruptionTrigger trigger
     ) {
+        Objects.requireNonNull(period, "period");
+        Objects.requireNonNull(mode, "mode");
+        final long periodNanos = period.compareTo(Duration.ofNanos(MAX_PERIOD_NANOS)) > 0
+                ? MAX_PERIOD_NANOS
+                : Math.max(0L, period.toNanos());
         this.limit = limit;
-        this.period = Objects.requireNonNull(period, "period");
+        this.interval = limit <= 0 ? 0L : Math.max(1L, periodNanos / limit);
+        this.tolerance = switch (mode) {
+            case BURST -> this.interval * Math.max(0, limit - 1);
+            case SMOOTH -> 0L;
+        };
         this.trigger = Objects.requireNonNull(trigger, "trigger");
+        this.theoreticalArrival = new AtomicLong(FULL);
     }
 
-    private Instant limitEnd = Instant.EPOCH;
-    private int count;
-
     @Override
     public boolean shouldTrigger(final DisruptorContext context) {
-        this.lock.lock();
-        try {
-            if (Instant.now().isAfter(this.limitEnd)) {
-                this.limitEnd = Instant.now().plus(this.period);
-                this.count = 0;
-            }
+        if (this.limit <= 0) {
+            return false;
+        }
 
-            if (this.count >= this.limit) {
-                return false;
-            }
+        final long now = context.clock().nanoTime();
+        long theoreticalArrival = this.theoreticalArrival.get();
+        // Don't bother evaluating the trigger if there's no budget left.
+        if (this.start(theoreticalArrival, now) - now > this.tolerance) {
+            return false;
+        }
+        if (!this.trigger.shouldTrigger(context)) {
+            return false;
+        }
 
-            final boolean shouldTrigger = this.trigger.shouldTrigger(context);
-            if (shouldTrigger) {
-                this.count++;
+        while (true) {
+            final long start = this.start(theoreticalArrival, now);
+            if (start - now > this.tolerance) {
+                // Other threads used up the remaining budget.
+                return false;
             }
-
-            if (this.count >= this.limit) {
-                LOGGER.info("Limit of disruption for group {} reached and will reset at {}", context.group(), this.limitEnd);
+            final long next = start + this.interval;
+            if (this.theoreticalArrival.compareAndSet(theoreticalArrival, next)) {
+                return true;
             }
-
-            return shouldTrigger;
-        } finally {
-            this.lock.unlock();
+            theoreticalArrival = this.theoreticalArrival.get();
         }
     }
+
+    private long start(final long theoreticalArrival, final long now) {
+        // If the bucket has been full for a while, we start counting from now.
+        return theoreticalArrival == FULL || theoreticalArrival - now < 0 ? now : theoreticalArrival;
+    }
 }
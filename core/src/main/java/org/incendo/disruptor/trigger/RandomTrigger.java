@@ -23,20 +23,52 @@
 //
 package org.incendo.disruptor.trigger;
 
+import java.util.concurrent.ThreadLocalRandom;
 import org.apiguardian.api.API;
 import org.incendo.disruptor.DisruptorContext;
 
 /**
  * Trigger that will randomly activate disruptions.
  *
- * @param chance chance of the trigger activating in the range 0 to 1
+ * <p>The random values are drawn from the {@link ThreadLocalRandom} of the invoking thread, so threads never contend
+ * on a shared generator. The chance is converted up front to a threshold for 31-bit random integers.</p>
+ *
  * @since 1.0.0
  */
 @API(status = API.Status.INTERNAL, since = "1.0.0")
-record RandomTrigger(float chance) implements DisruptionTrigger {
+final class RandomTrigger implements DisruptionTrigger {
+
+    /**
+     * The exclusive upper bound of the 31-bit random values. A threshold equal to the bound always activates.
+     */
+    static final long BOUND = 1L << 31;
+
+    private final long threshold;
+
+    RandomTrigger(final float chance) {
+        this.threshold = threshold(chance);
+    }
+
+    /**
+     * Returns the threshold that 31-bit random values should be below for the trigger to activate with the given
+     * {@code chance}.
+     *
+     * @param chance chance in the range [0, 1], values outside the range are clamped
+     * @return the threshold
+     */
+    static long threshold(final float chance) {
+        // This also rejects NaN.
+        if (!(chance > 0f)) {
+            return 0L;
+        }
+        if (chance >= 1f) {
+            return BOUND;
+        }
+        return Math.round((double) chance * BOUND);
+    }
 
     @Override
     public boolean shouldTrigger(final DisruptorContext context) {
-        return Math.random() <= this.chance;
+        return (ThreadLocalRandom.current().nextInt() >>> 1) < this.threshold;
     }
 }
@@ -0,0 +1,65 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.trigger;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.apiguardian.api.API;
+import org.incendo.disruptor.DisruptorContext;
+
+/**
+ * Trigger that activates randomly using a deterministic sequence derived from a seed.
+ *
+ * <p>The nth evaluation mixes {@code seed + n * gamma} into a random value, the same way {@link java.util.SplittableRandom}
+ * generates its values. The outcome of each evaluation therefore only depends on the seed and the number of previous
+ * evaluations, which makes the sequence of activations reproducible.</p>
+ *
+ * @since 1.0.0
+ */
+@API(status = API.Status.INTERNAL, since = "1.0.0")
+final class SeededRandomTrigger implements DisruptionTrigger {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final AtomicLong invocations = new AtomicLong();
+    private final long seed;
+    private final long threshold;
+
+    SeededRandomTrigger(final float chance, final long seed) {
+        this.seed = seed;
+        this.threshold = RandomTrigger.threshold(chance);
+    }
+
+    @Override
+    public boolean shouldTrigger(final DisruptorContext context) {
+        final long invocation = this.invocations.getAndIncrement();
+        return (mix(this.seed + invocation * GOLDEN_GAMMA) >>> 33) < this.threshold;
+    }
+
+    private static long mix(final long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,63 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.trigger;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.apiguardian.api.API;
+import org.incendo.disruptor.DisruptorContext;
+
+/**
+ * Counting trigger that spreads the invocation count over several counters, picked by the invoking thread,
+ * so that threads rarely contend on the same cache line.
+ *
+ * <p>Each counter activates every {@code target} invocations, which means that the trigger activates once every
+ * {@code target} invocations on average, but not necessarily on exactly every {@code target}th invocation.</p>
+ *
+ * @since 1.0.0
+ */
+@API(status = API.Status.INTERNAL, since = "1.0.0")
+final class StripedCountingTrigger implements DisruptionTrigger {
+
+    // Counters are spaced out by a cache line (8 longs) to prevent false sharing.
+    private static final int PADDING = 8;
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    private final AtomicLongArray counters;
+    private final int mask;
+    private final int target;
+
+    StripedCountingTrigger(final int target) {
+        final int processors = Runtime.getRuntime().availableProcessors();
+        final int stripes = processors <= 1 ? 1 : Integer.highestOneBit(processors - 1) << 1;
+        this.counters = new AtomicLongArray(stripes * PADDING);
+        this.mask = stripes - 1;
+        this.target = target;
+    }
+
+    @Override
+    public boolean shouldTrigger(final DisruptorContext context) {
+        final int stripe = (int) ((Thread.currentThread().threadId() * GOLDEN_RATIO) >>> 32) & this.mask;
+        return this.counters.incrementAndGet(stripe * PADDING) % this.target == 0;
+    }
+}
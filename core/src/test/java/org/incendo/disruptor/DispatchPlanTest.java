@@ -0,0 +1,111 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.incendo.disruptor.trigger.DisruptionTrigger;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DispatchPlanTest {
+
+    @Test
+    void Trigger_MixedModes_OnlyRunsConfigsWithMode() {
+        // Arrange
+        final List<String> invocations = new ArrayList<>();
+        final DisruptorGroup group = DisruptorGroup.builder()
+                .config(config -> config.mode(DisruptionMode.BEFORE)
+                        .trigger(ctx -> true)
+                        .disruptions(ctx -> invocations.add("before")))
+                .config(config -> config.mode(DisruptionMode.AFTER)
+                        .trigger(ctx -> true)
+                        .disruptions(ctx -> invocations.add("after")))
+                .build();
+        final DisruptorContext context = DisruptorContext.of("test" /* group */);
+
+        // Act
+        DispatchPlan.of(group).trigger(context, DisruptionMode.AFTER, null /* listener */);
+
+        // Assert
+        assertThat(invocations).containsExactly("after");
+    }
+
+    @Test
+    void Trigger_MultipleConfigs_RunsTriggeredDisruptionsInOrder() {
+        // Arrange
+        final List<String> invocations = new ArrayList<>();
+        final DisruptorGroup group = DisruptorGroup.builder()
+                .config(config -> config.trigger(ctx -> true)
+                        .disruptions(ctx -> invocations.add("first"), ctx -> invocations.add("second")))
+                .config(config -> config.trigger(DisruptionTrigger.never())
+                        .disruptions(ctx -> invocations.add("never")))
+                .config(config -> config.trigger(ctx -> true)
+                        .disruptions(ctx -> invocations.add("third")))
+                .build();
+        final DisruptorContext context = DisruptorContext.of("test" /* group */);
+
+        // Act
+        DispatchPlan.of(group).trigger(context, DisruptionMode.BEFORE, null /* listener */);
+
+        // Assert
+        assertThat(invocations).containsExactly("first", "second", "third").inOrder();
+    }
+
+    @Test
+    void Trigger_DisruptionThrowsError_ReportsAndRethrowsError() {
+        // Arrange
+        final Error error = new AssertionError("test");
+        final List<Throwable> failures = new ArrayList<>();
+        final DisruptorGroup group = DisruptorGroup.builder()
+                .config(config -> config.trigger(ctx -> true)
+                        .disruptions(ctx -> {
+                            throw error;
+                        }))
+                .build();
+        final DisruptorContext context = DisruptorContext.of("test" /* group */);
+        final GroupListener listener = new GroupListener() {
+            @Override
+            public void evaluated(final int config, final boolean triggered) {
+            }
+
+            @Override
+            public void disrupted(final int config, final int disruption, final long durationNanos, final Throwable failure) {
+                failures.add(failure);
+            }
+        };
+
+        // Act
+        final Error thrown = assertThrows(
+                Error.class,
+                () -> DispatchPlan.of(group).trigger(context, DisruptionMode.BEFORE, listener)
+        );
+
+        // Assert
+        assertThat(thrown).isSameInstanceAs(error);
+        assertThat(failures).containsExactly(error);
+    }
+}
@@ -0,0 +1,129 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DisruptorAsyncTest {
+
+    @Test
+    void DisruptAsync_Delay_DoesNotBlock() {
+        // Arrange
+        final Disruptor disruptor = Disruptor.builder()
+                .group("test", group -> group.config(config -> config.trigger(ctx -> true).delay(Duration.ofMillis(500L))))
+                .build();
+
+        // Act
+        final long start = System.nanoTime();
+        final CompletionStage<String> stage = disruptor.disruptAsync(
+                "test",
+                () -> CompletableFuture.completedFuture("hello world")
+        );
+        final Duration returnedAfter = Duration.ofNanos(System.nanoTime() - start);
+        final String result = stage.toCompletableFuture().join();
+        final Duration completedAfter = Duration.ofNanos(System.nanoTime() - start);
+
+        // Assert
+        assertThat(result).isEqualTo("hello world");
+        assertThat(returnedAfter).isLessThan(Duration.ofMillis(500L));
+        assertThat(completedAfter).isAtLeast(Duration.ofMillis(500L));
+    }
+
+    @Test
+    void DisruptAsync_Exception_CompletesExceptionally() {
+        // Arrange
+        final Disruptor disruptor = Disruptor.builder()
+                .group(
+                        "test",
+                        group -> group.config(config -> config.mode(DisruptionMode.AFTER)
+                                .trigger(ctx -> true)
+                                .throwException(ctx -> new RuntimeException("test")))
+                )
+                .build();
+        final DisruptorHandle handle = disruptor.handle("test");
+
+        // Act
+        final CompletionStage<String> stage = handle.disruptAsync(() -> CompletableFuture.completedFuture("hello world"));
+
+        // Assert
+        final CompletionException exception = assertThrows(
+                CompletionException.class,
+                () -> stage.toCompletableFuture().join()
+        );
+        assertThat(exception).hasCauseThat().hasMessageThat().isEqualTo("test");
+    }
+
+    @Test
+    void DisruptAsync_ThrowingSupplierWithoutDisruptions_CompletesExceptionally() {
+        // Arrange
+        final Disruptor enabled = Disruptor.builder().build();
+        final Disruptor disabled = Disruptor.builder()
+                .group("test", group -> group.config(config -> config.trigger(ctx -> true)))
+                .enabled(false)
+                .build();
+
+        // Act
+        final CompletionStage<String> unknownGroup = enabled.disruptAsync("test", () -> {
+            throw new RuntimeException("unknown");
+        });
+        final CompletionStage<String> disabledDisruptor = disabled.disruptAsync("test", () -> {
+            throw new RuntimeException("disabled");
+        });
+
+        // Assert
+        final CompletionException unknownException = assertThrows(
+                CompletionException.class,
+                () -> unknownGroup.toCompletableFuture().join()
+        );
+        assertThat(unknownException).hasCauseThat().hasMessageThat().isEqualTo("unknown");
+        final CompletionException disabledException = assertThrows(
+                CompletionException.class,
+                () -> disabledDisruptor.toCompletableFuture().join()
+        );
+        assertThat(disabledException).hasCauseThat().hasMessageThat().isEqualTo("disabled");
+    }
+
+    @Test
+    void DisruptAsync_SupplierThrowsErrorWithoutDisruptions_CompletesExceptionally() {
+        // Arrange
+        final Disruptor disruptor = Disruptor.builder().build();
+        final Error error = new AssertionError("unknown");
+
+        // Act
+        final CompletionStage<String> stage = disruptor.disruptAsync("test", () -> {
+            throw error;
+        });
+
+        // Assert
+        final CompletionException exception = assertThrows(CompletionException.class, () -> stage.toCompletableFuture().join());
+        assertThat(exception).hasCauseThat().isSameInstanceAs(error);
+    }
+}
@@ -0,0 +1,86 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class DisruptorHandleTest {
+
+    @Test
+    void Disrupt_ConfiguredGroup_RunsDisruptionsAroundSupplier() {
+        // Arrange
+        final List<String> invocations = new ArrayList<>();
+        final Disruptor disruptor = Disruptor.builder()
+                .group(
+                        "test",
+                        group -> group
+                                .config(config -> config.mode(DisruptionMode.BEFORE)
+                                        .trigger(ctx -> true)
+                                        .disruptions(ctx -> invocations.add("before")))
+                                .config(config -> config.mode(DisruptionMode.AFTER)
+                                        .trigger(ctx -> true)
+                                        .disruptions(ctx -> invocations.add("after")))
+                )
+                .build();
+        final DisruptorHandle handle = disruptor.handle("test");
+
+        // Act
+        final String result = handle.disrupt(() -> {
+            invocations.add("supplier");
+            return "hello world";
+        });
+
+        // Assert
+        assertThat(result).isEqualTo("hello world");
+        assertThat(invocations).containsExactly("before", "supplier", "after").inOrder();
+    }
+
+    @Test
+    void Disrupt_UnknownGroup_RunsSupplier() {
+        // Arrange
+        final DisruptorHandle handle = Disruptor.empty().handle("test");
+
+        // Act
+        final String result = handle.disrupt(() -> "hello world");
+
+        // Assert
+        assertThat(handle.group()).isEqualTo("test");
+        assertThat(result).isEqualTo("hello world");
+    }
+
+    @Test
+    void Handle_ConfiguredGroup_ReturnsSameHandle() {
+        // Arrange
+        final Disruptor disruptor = Disruptor.builder()
+                .group("test", group -> group.config(config -> config.trigger(ctx -> false)))
+                .build();
+
+        // Act & Assert
+        assertThat(disruptor.handle("test")).isSameInstanceAs(disruptor.handle("test"));
+    }
+}
@@ -23,6 +23,12 @@
 //
 package org.incendo.disruptor;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.incendo.disruptor.clock.DisruptionClock;
+import org.incendo.disruptor.clock.ManualClock;
 import org.incendo.disruptor.trigger.DisruptionTrigger;
 import org.junit.jupiter.api.Test;
 
@@ -73,6 +79,89 @@ class DisruptorIntegrationTest {
         assertThat(result).isEqualTo("hello world");
     }
 
+    @Test
+    void contextReuse() {
+        // Arrange
+        final List<DisruptorContext> contexts = new ArrayList<>();
+        final Disruptor disruptor = Disruptor.builder()
+                .group(
+                        "test",
+                        group -> group.config(config -> config.trigger(context -> contexts.add(context)))
+                )
+                .build();
+
+        // Act
+        disruptor.disrupt("test", DisruptionMode.BEFORE);
+        disruptor.disrupt("test", DisruptionMode.BEFORE);
+
+        // Assert
+        assertThat(contexts).hasSize(2);
+        assertThat(contexts.get(0)).isSameInstanceAs(contexts.get(1));
+        assertThat(contexts.get(0).group()).isEqualTo("test");
+    }
+
+    @Test
+    void disabled() {
+        // Arrange
+        final Disruptor disruptor = Disruptor.builder()
+                .group(
+                        "test",
+                        group -> group.config(config -> config.trigger(new AlwaysTrigger())
+                                .throwException(ctx -> new RuntimeException("test"))
+                        )
+                )
+                .enabled(false)
+                .build();
+        final DisruptorHandle handle = disruptor.handle("test");
+
+        // Act & Assert
+        assertThat(disruptor.disrupt("test", () -> "hello world")).isEqualTo("hello world");
+        assertThat(handle.disrupt(() -> "hello world")).isEqualTo("hello world");
+
+        disruptor.enabled(true);
+        assertThrows(RuntimeException.class, () -> disruptor.disrupt("test", () -> "hello world"));
+        assertThrows(RuntimeException.class, () -> handle.disrupt(() -> "hello world"));
+
+        disruptor.enabled(false);
+        assertThat(handle.disrupt(() -> "hello world")).isEqualTo("hello world");
+    }
+
+    @Test
+    void clock() {
+        // Arrange
+        final AtomicBoolean failing = new AtomicBoolean(true);
+        final DisruptionTrigger failingTrigger = ctx -> failing.get();
+        final ManualClock clock = DisruptionClock.manual();
+        final Disruptor disruptor = Disruptor.builder()
+                .clock(clock)
+                .group(
+                        "lasting",
+                        group -> group.config(config -> config.trigger(failingTrigger.lasting(Duration.ofMinutes(5L)))
+                                .throwException(ctx -> new RuntimeException("lasting"))
+                        )
+                )
+                .group(
+                        "limiting",
+                        group -> group.config(config -> config.trigger(new AlwaysTrigger().limiting(1, Duration.ofMinutes(1L)))
+                                .throwException(ctx -> new RuntimeException("limiting"))
+                        )
+                )
+                .build();
+
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> disruptor.disrupt("lasting", () -> "hello world"));
+        failing.set(false);
+        clock.advance(Duration.ofMinutes(4L));
+        assertThrows(RuntimeException.class, () -> disruptor.disrupt("lasting", () -> "hello world"));
+        clock.advance(Duration.ofMinutes(1L));
+        assertThat(disruptor.disrupt("lasting", () -> "hello world")).isEqualTo("hello world");
+
+        assertThrows(RuntimeException.class, () -> disruptor.disrupt("limiting", () -> "hello world"));
+        assertThat(disruptor.disrupt("limiting", () -> "hello world")).isEqualTo("hello world");
+        clock.advance(Duration.ofMinutes(1L));
+        assertThrows(RuntimeException.class, () -> disruptor.disrupt("limiting", () -> "hello world"));
+    }
+
     private static final class AlwaysTrigger implements DisruptionTrigger {
 
         @Override
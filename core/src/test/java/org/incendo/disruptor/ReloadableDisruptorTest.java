@@ -0,0 +1,101 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor;
+
+import java.util.Map;
+import org.incendo.disruptor.trigger.DisruptionTrigger;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ReloadableDisruptorTest {
+
+    @Test
+    void Reload_ReplacesGroups() {
+        // Arrange
+        final ReloadableDisruptor disruptor = Disruptor.builder()
+                .group("first", failingGroup("first"))
+                .buildReloadable();
+
+        // Act
+        disruptor.reload(Map.of("second", failingGroup("second")));
+
+        // Assert
+        assertThat(disruptor.group("first").isPresent()).isFalse();
+        assertThat(disruptor.group("second").isPresent()).isTrue();
+        disruptor.disrupt("first", DisruptionMode.BEFORE);
+        final RuntimeException exception = assertThrows(
+                RuntimeException.class,
+                () -> disruptor.disrupt("second", DisruptionMode.BEFORE)
+        );
+        assertThat(exception).hasMessageThat().isEqualTo("second");
+    }
+
+    @Test
+    void Reload_RebindsExistingHandles() {
+        // Arrange
+        final ReloadableDisruptor disruptor = Disruptor.builder()
+                .group("configured", failingGroup("before"))
+                .buildReloadable();
+        final DisruptorHandle configured = disruptor.handle("configured");
+        final DisruptorHandle unknown = disruptor.handle("unknown");
+
+        // Act
+        disruptor.reload(Map.of(
+                "configured", failingGroup("after"),
+                "unknown", failingGroup("unknown")
+        ));
+
+        // Assert
+        final RuntimeException configuredException = assertThrows(RuntimeException.class, configured::before);
+        assertThat(configuredException).hasMessageThat().isEqualTo("after");
+        final RuntimeException unknownException = assertThrows(RuntimeException.class, unknown::before);
+        assertThat(unknownException).hasMessageThat().isEqualTo("unknown");
+    }
+
+    @Test
+    void Reload_Disabled_StaysDisabled() {
+        // Arrange
+        final ReloadableDisruptor disruptor = Disruptor.builder()
+                .enabled(false)
+                .buildReloadable();
+        final DisruptorHandle handle = disruptor.handle("group");
+
+        // Act
+        disruptor.reload(Map.of("group", failingGroup("group")));
+
+        // Assert
+        handle.before();
+        disruptor.enabled(true);
+        assertThrows(RuntimeException.class, handle::before);
+    }
+
+    private static DisruptorGroup failingGroup(final String message) {
+        return DisruptorGroup.builder()
+                .config(config -> config.trigger(DisruptionTrigger.random(1f))
+                        .throwException(ctx -> new RuntimeException(message)))
+                .build();
+    }
+}
@@ -0,0 +1,76 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.clock;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CoarseClockTest {
+
+    private static final Duration RESOLUTION = Duration.ofMillis(1L);
+    private static final Duration TIMEOUT = Duration.ofSeconds(30L);
+
+    @Test
+    void NanoTime_ResolutionElapsed_Advances() throws Exception {
+        // Arrange
+        try (CoarseClock clock = DisruptionClock.coarse(RESOLUTION)) {
+            final long start = clock.nanoTime();
+
+            // Act
+            final long deadline = System.nanoTime() + TIMEOUT.toNanos();
+            while (clock.nanoTime() == start && System.nanoTime() - deadline < 0L) {
+                Thread.sleep(1L);
+            }
+
+            // Assert
+            assertThat(clock.nanoTime() - start).isGreaterThan(0L);
+        }
+    }
+
+    @Test
+    void Close_StopsUpdater() throws Exception {
+        // Arrange
+        final CoarseClock clock = DisruptionClock.coarse(RESOLUTION);
+
+        // Act
+        clock.close();
+        // The updater may still update the clock once while it wakes up.
+        Thread.sleep(100L);
+        final long closed = clock.nanoTime();
+        Thread.sleep(100L);
+
+        // Assert
+        assertThat(clock.nanoTime()).isEqualTo(closed);
+    }
+
+    @Test
+    void Coarse_NonPositiveResolution_ThrowsIllegalArgumentException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> DisruptionClock.coarse(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> DisruptionClock.coarse(Duration.ofMillis(-1L)));
+    }
+}
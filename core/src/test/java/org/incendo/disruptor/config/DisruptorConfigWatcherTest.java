@@ -0,0 +1,131 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.config;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.incendo.disruptor.Disruptor;
+import org.incendo.disruptor.DisruptorHandle;
+import org.incendo.disruptor.ReloadableDisruptor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class DisruptorConfigWatcherTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30L);
+
+    @Test
+    void Watch_LoadsAndReloadsFile(@TempDir final Path directory) throws IOException {
+        // Arrange
+        final Path file = directory.resolve("disruptor.properties");
+        Files.writeString(file, "orders.0.trigger=random:1\norders.0.exception=first\n");
+        final ReloadableDisruptor disruptor = Disruptor.builder().buildReloadable();
+        final DisruptorHandle handle = disruptor.handle("orders");
+
+        try (DisruptorConfigWatcher watcher = DisruptorConfigWatcher.watch(
+                disruptor,
+                file,
+                DisruptorConfigLoader.properties()
+        )) {
+            // Act & Assert
+            final RuntimeException first = assertThrows(RuntimeException.class, handle::before);
+            assertThat(first).hasMessageThat().isEqualTo("first");
+
+            Files.writeString(file, "orders.0.trigger=random:1\norders.0.exception=second\n");
+            watcher.reload();
+
+            final RuntimeException second = assertThrows(RuntimeException.class, handle::before);
+            assertThat(second).hasMessageThat().isEqualTo("second");
+        }
+    }
+
+    @Test
+    void Watch_FileModified_ReloadsDisruptor(@TempDir final Path directory) throws Exception {
+        // Arrange
+        final Path file = directory.resolve("disruptor.properties");
+        Files.writeString(file, "orders.0.trigger=random:1\norders.0.exception=first\n");
+        final ReloadableDisruptor disruptor = Disruptor.builder().buildReloadable();
+        final DisruptorHandle handle = disruptor.handle("orders");
+
+        try (DisruptorConfigWatcher ignored = DisruptorConfigWatcher.watch(
+                disruptor,
+                file,
+                DisruptorConfigLoader.properties()
+        )) {
+            // Act
+            Files.writeString(file, "orders.0.trigger=random:1\norders.0.exception=second\n");
+
+            // Assert
+            awaitMessage(handle, "second");
+        }
+    }
+
+    @Test
+    void Watch_InvalidFile_KeepsPreviousGroups(@TempDir final Path directory) throws Exception {
+        // Arrange
+        final Path file = directory.resolve("disruptor.properties");
+        Files.writeString(file, "orders.0.trigger=random:1\norders.0.exception=first\n");
+        final ReloadableDisruptor disruptor = Disruptor.builder().buildReloadable();
+        final DisruptorHandle handle = disruptor.handle("orders");
+
+        try (DisruptorConfigWatcher ignored = DisruptorConfigWatcher.watch(
+                disruptor,
+                file,
+                DisruptorConfigLoader.properties()
+        )) {
+            // Act
+            Files.writeString(file, "orders.0.trigger=invalid\n");
+            // There is no change to wait for, so we give the watcher well over its settle period to load the file.
+            Thread.sleep(1_000L);
+
+            // Assert
+            final RuntimeException kept = assertThrows(RuntimeException.class, handle::before);
+            assertThat(kept).hasMessageThat().isEqualTo("first");
+            // The watcher keeps running after a failed load.
+            Files.writeString(file, "orders.0.trigger=random:1\norders.0.exception=second\n");
+            awaitMessage(handle, "second");
+        }
+    }
+
+    private static void awaitMessage(final DisruptorHandle handle, final String message) throws InterruptedException {
+        final long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (System.nanoTime() - deadline < 0) {
+            try {
+                handle.before();
+            } catch (final RuntimeException exception) {
+                if (message.equals(exception.getMessage())) {
+                    return;
+                }
+            }
+            Thread.sleep(50L);
+        }
+        fail("The handle did not pick up the change within " + TIMEOUT);
+    }
+}
@@ -0,0 +1,81 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.config;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import org.incendo.disruptor.DisruptionConfig;
+import org.incendo.disruptor.DisruptionMode;
+import org.incendo.disruptor.DisruptorGroup;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PropertiesConfigLoaderTest {
+
+    @Test
+    void Load_Properties_BuildsGroups(@TempDir final Path directory) throws IOException {
+        // Arrange
+        final Path file = directory.resolve("disruptor.properties");
+        Files.writeString(
+                file,
+                """
+                orders.0.trigger=random:1
+                orders.0.lasting=PT5S
+                orders.0.delay=PT0.001S
+                orders.0.exception=Injected failure
+                orders.1.trigger=counting:10
+                orders.1.limiting=5/PT1S
+                orders.1.mode=after
+                my.payments.0.trigger=never
+                """
+        );
+
+        // Act
+        final Map<String, DisruptorGroup> groups = DisruptorConfigLoader.properties().load(file);
+
+        // Assert
+        assertThat(groups.keySet()).containsExactly("orders", "my.payments");
+        final DisruptionConfig first = groups.get("orders").configurations().get(0);
+        assertThat(first.mode()).isEqualTo(DisruptionMode.BEFORE);
+        assertThat(first.disruptions()).hasSize(2);
+        final DisruptionConfig second = groups.get("orders").configurations().get(1);
+        assertThat(second.mode()).isEqualTo(DisruptionMode.AFTER);
+        assertThat(second.disruptions()).isEmpty();
+    }
+
+    @Test
+    void Load_UnknownProperty_ThrowsIOException(@TempDir final Path directory) throws IOException {
+        // Arrange
+        final Path file = directory.resolve("disruptor.properties");
+        Files.writeString(file, "orders.0.trigger=never\norders.0.unknown=value\n");
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> DisruptorConfigLoader.properties().load(file));
+    }
+}
@@ -0,0 +1,191 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.disruption;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LatencyDistributionTest {
+
+    private static final int SAMPLES = 100_000;
+
+    @Test
+    void SampleNanos_Uniform_StaysWithinBounds() {
+        // Arrange
+        final LatencyDistribution distribution = LatencyDistribution.uniform(Duration.ofMillis(10L), Duration.ofMillis(20L));
+
+        // Act
+        final long[] samples = sample(distribution);
+
+        // Assert
+        assertThat(samples[0]).isAtLeast(Duration.ofMillis(10L).toNanos());
+        assertThat(samples[SAMPLES - 1]).isAtMost(Duration.ofMillis(20L).toNanos());
+        assertThat(mean(samples)).isWithin(0.2d).of(15d);
+    }
+
+    @Test
+    void SampleNanos_Normal_NeverNegative() {
+        // Arrange
+        final LatencyDistribution distribution = LatencyDistribution.normal(Duration.ofMillis(1L), Duration.ofMillis(10L));
+
+        // Act
+        final long[] samples = sample(distribution);
+
+        // Assert
+        assertThat(samples[0]).isAtLeast(0L);
+    }
+
+    @Test
+    void SampleNanos_LogNormal_HasGivenMedian() {
+        // Arrange
+        final LatencyDistribution distribution = LatencyDistribution.logNormal(Duration.ofMillis(20L), 1d);
+
+        // Act
+        final long[] samples = sample(distribution);
+
+        // Assert
+        assertThat(millis(samples[SAMPLES / 2])).isWithin(0.5d).of(20d);
+    }
+
+    @Test
+    void SampleNanos_Pareto_HasHeavyTail() {
+        // Arrange
+        final LatencyDistribution distribution = LatencyDistribution.pareto(Duration.ofMillis(10L), 2d);
+
+        // Act
+        final long[] samples = sample(distribution);
+
+        // Assert
+        assertThat(samples[0]).isAtLeast(Duration.ofMillis(10L).toNanos());
+        // The p99 of a Pareto distribution is minimum * 100^(1 / shape).
+        assertThat(millis(samples[SAMPLES * 99 / 100])).isWithin(10d).of(100d);
+    }
+
+    @Test
+    void SampleNanos_Exponential_HasGivenMean() {
+        // Arrange
+        final LatencyDistribution distribution = LatencyDistribution.exponential(Duration.ofMillis(30L));
+
+        // Act
+        final long[] samples = sample(distribution);
+
+        // Assert
+        assertThat(mean(samples)).isWithin(0.5d).of(30d);
+    }
+
+    @Test
+    void SampleNanos_Capped_NeverExceedsMaximum() {
+        // Arrange
+        final LatencyDistribution distribution = LatencyDistribution.pareto(Duration.ofMillis(10L), 0.5d)
+                .capped(Duration.ofSeconds(1L));
+
+        // Act
+        final long[] samples = sample(distribution);
+
+        // Assert
+        assertThat(samples[SAMPLES - 1]).isEqualTo(Duration.ofSeconds(1L).toNanos());
+    }
+
+    @Test
+    void SampleNanos_Empirical_SamplesProportionallyToCounts() {
+        // Arrange
+        final LatencyDistribution distribution = LatencyDistribution.empirical(
+                new long[] {5L, 1L},
+                new long[] {1L, 3L},
+                TimeUnit.MILLISECONDS
+        );
+
+        // Act
+        final long[] samples = sample(distribution);
+
+        // Assert
+        final long ones = Arrays.stream(samples).filter(sample -> sample == Duration.ofMillis(1L).toNanos()).count();
+        assertThat(ones + Arrays.stream(samples).filter(sample -> sample == Duration.ofMillis(5L).toNanos()).count())
+                .isEqualTo(SAMPLES);
+        assertThat((double) ones / SAMPLES).isWithin(0.01d).of(0.75d);
+    }
+
+    @Test
+    void Empirical_HdrHistogramFile_ReadsCumulativeCounts(@TempDir final Path directory) throws IOException {
+        // Arrange
+        final Path file = directory.resolve("latency.hgrm");
+        Files.writeString(
+                file,
+                """
+                       Value     Percentile TotalCount 1/(1-Percentile)
+
+                       1.000 0.000000000000         10           1.00
+                       2.500 0.500000000000         90           2.00
+                     100.000 1.000000000000        100            inf
+                #[Mean    =        1.0, StdDeviation   =        0.0]
+                """
+        );
+
+        // Act
+        final long[] samples = sample(LatencyDistribution.empirical(file, TimeUnit.MILLISECONDS));
+
+        // Assert
+        assertThat(samples[0]).isEqualTo(Duration.ofMillis(1L).toNanos());
+        assertThat(samples[SAMPLES / 2]).isEqualTo(Duration.ofMicros(2_500L).toNanos());
+        assertThat(samples[SAMPLES - 1]).isEqualTo(Duration.ofMillis(100L).toNanos());
+    }
+
+    @Test
+    void Empirical_InvalidFile_ThrowsIOException(@TempDir final Path directory) throws IOException {
+        // Arrange
+        final Path file = directory.resolve("latency.txt");
+        Files.writeString(file, "1 10\n2 x\n");
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> LatencyDistribution.empirical(file, TimeUnit.MILLISECONDS));
+    }
+
+    private static long[] sample(final LatencyDistribution distribution) {
+        final SplittableRandom random = new SplittableRandom(1L);
+        final long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            samples[i] = distribution.sampleNanos(random);
+        }
+        Arrays.sort(samples);
+        return samples;
+    }
+
+    private static double mean(final long[] samples) {
+        return millis((long) Arrays.stream(samples).average().orElseThrow());
+    }
+
+    private static double millis(final long nanos) {
+        return nanos / 1_000_000d;
+    }
+}
@@ -0,0 +1,100 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.disruption;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.incendo.disruptor.DisruptorContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class PreciseDelayTest {
+
+    @Test
+    void Trigger_NeverEndsBeforeDeadline() {
+        // Arrange
+        final Duration delay = Duration.ofNanos(200_000L);
+        final Disruption disruption = Disruption.delayingPrecisely(
+                LatencyDistribution.constant(delay),
+                Duration.ofNanos(50_000L) /* spinThreshold */
+        );
+        final DisruptorContext context = DisruptorContext.of("group");
+
+        for (int i = 0; i < 100; i++) {
+            final long start = System.nanoTime();
+
+            // Act
+            disruption.trigger(context);
+
+            // Assert
+            assertThat(System.nanoTime() - start).isAtLeast(delay.toNanos());
+        }
+    }
+
+    @Test
+    void TriggerAsync_NeverEndsBeforeDeadline() {
+        // Arrange
+        final Duration delay = Duration.ofMillis(2L);
+        final Disruption disruption = Disruption.delayingPrecisely(delay);
+        final long start = System.nanoTime();
+
+        // Act
+        disruption.triggerAsync(DisruptorContext.of("group")).toCompletableFuture().join();
+
+        // Assert
+        assertThat(System.nanoTime() - start).isAtLeast(delay.toNanos());
+    }
+
+    @Test
+    void Trigger_EmitsAccuracyEvent(@TempDir final Path directory) throws IOException {
+        // Arrange
+        final Path file = directory.resolve("recording.jfr");
+        final Disruption disruption = Disruption.delayingPrecisely(Duration.ofNanos(100_000L));
+        try (Recording recording = new Recording()) {
+            recording.enable("org.incendo.disruptor.PreciseDelay");
+            recording.start();
+
+            // Act
+            disruption.trigger(DisruptorContext.of("group"));
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // Assert
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertThat(events).hasSize(1);
+        final RecordedEvent event = events.get(0);
+        assertThat(event.getString("group")).isEqualTo("group");
+        assertThat(event.getLong("requested")).isEqualTo(100_000L);
+        assertThat(event.getLong("achieved")).isAtLeast(100_000L);
+        assertThat(event.getLong("overshoot")).isEqualTo(event.getLong("achieved") - 100_000L);
+    }
+}
@@ -0,0 +1,111 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.disruption;
+
+import java.net.SocketTimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.incendo.disruptor.DisruptionException;
+import org.incendo.disruptor.DisruptorContext;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StacklessThrowingTest {
+
+    @Test
+    void Trigger_ThrowsPreallocatedExceptionWithoutStackTrace() {
+        // Arrange
+        final Disruption disruption = Disruption.throwingStackless("test");
+        final DisruptorContext context = DisruptorContext.of("group");
+
+        // Act
+        final DisruptionException first = assertThrows(DisruptionException.class, () -> disruption.trigger(context));
+        final DisruptionException second = assertThrows(DisruptionException.class, () -> disruption.trigger(context));
+
+        // Assert
+        assertThat(first).isSameInstanceAs(second);
+        assertThat(first).hasMessageThat().isEqualTo("test");
+        assertThat(first.getStackTrace()).isEmpty();
+    }
+
+    @Test
+    void Trigger_Sampled_CapturesStackTraceEveryNthThrow() {
+        // Arrange
+        final Disruption disruption = Disruption.throwingStackless("test", 3 /* stackTraceEvery */);
+        final DisruptorContext context = DisruptorContext.of("group");
+
+        // Act
+        final int[] stackTraces = new int[6];
+        for (int i = 0; i < stackTraces.length; i++) {
+            stackTraces[i] = assertThrows(DisruptionException.class, () -> disruption.trigger(context))
+                    .getStackTrace()
+                    .length;
+        }
+
+        // Assert
+        for (int i = 0; i < stackTraces.length; i++) {
+            if ((i + 1) % 3 == 0) {
+                assertThat(stackTraces[i]).isGreaterThan(0);
+            } else {
+                assertThat(stackTraces[i]).isEqualTo(0);
+            }
+        }
+    }
+
+    @Test
+    void Trigger_Factory_ThrowsPreallocatedExceptionOfFactory() {
+        // Arrange
+        final AtomicInteger created = new AtomicInteger();
+        final Disruption disruption = Disruption.throwingStackless(() -> {
+            created.incrementAndGet();
+            return new IllegalStateException("test");
+        });
+        final DisruptorContext context = DisruptorContext.of("group");
+
+        // Act
+        final IllegalStateException first = assertThrows(IllegalStateException.class, () -> disruption.trigger(context));
+        final IllegalStateException second = assertThrows(IllegalStateException.class, () -> disruption.trigger(context));
+
+        // Assert
+        assertThat(first).isSameInstanceAs(second);
+        assertThat(first).hasMessageThat().isEqualTo("test");
+        assertThat(first.getStackTrace()).isEmpty();
+        assertThat(created.get()).isEqualTo(1);
+    }
+
+    @Test
+    void Trigger_FactoryOfCheckedException_WrapsException() {
+        // Arrange
+        final Disruption disruption = Disruption.throwingStackless(() -> new SocketTimeoutException("test"));
+        final DisruptorContext context = DisruptorContext.of("group");
+
+        // Act
+        final DisruptionException exception = assertThrows(DisruptionException.class, () -> disruption.trigger(context));
+
+        // Assert
+        assertThat(exception).hasCauseThat().isInstanceOf(SocketTimeoutException.class);
+        assertThat(exception.getStackTrace()).isEmpty();
+    }
+}
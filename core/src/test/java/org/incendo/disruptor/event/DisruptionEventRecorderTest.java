@@ -0,0 +1,140 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.event;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.incendo.disruptor.DisruptionMode;
+import org.incendo.disruptor.Disruptor;
+import org.incendo.disruptor.DisruptorGroup;
+import org.incendo.disruptor.GroupListener;
+import org.incendo.disruptor.trigger.DisruptionTrigger;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DisruptionEventRecorderTest {
+
+    @Test
+    void Close_DrainsRecordedEvents() {
+        // Arrange
+        final List<DisruptionEvent> events = new CopyOnWriteArrayList<>();
+        final DisruptionEventRecorder recorder = DisruptionEventRecorder.start(events::add);
+        final Disruptor disruptor = Disruptor.builder()
+                .listener(recorder)
+                .group("group", group -> group.config(
+                        DisruptionTrigger.random(1f),
+                        config -> config.disruptions(ctx -> {
+                        }).throwStackless("test")
+                ))
+                .build();
+
+        // Act
+        assertThrows(RuntimeException.class, () -> disruptor.disrupt("group", DisruptionMode.BEFORE));
+        recorder.close();
+
+        // Assert
+        assertThat(events).hasSize(2);
+        assertThat(events.get(0).group()).isEqualTo("group");
+        assertThat(events.get(0).type()).isEqualTo("custom");
+        assertThat(events.get(0).failed()).isFalse();
+        assertThat(events.get(1).disruption()).isEqualTo(1);
+        assertThat(events.get(1).type()).isEqualTo("exception");
+        assertThat(events.get(1).failed()).isTrue();
+        assertThat(recorder.overflowCount()).isEqualTo(0L);
+    }
+
+    @Test
+    void Record_AfterClose_CountsOverflow() {
+        // Arrange
+        final DisruptionEventRecorder recorder = DisruptionEventRecorder.start(event -> {
+        });
+        final Disruptor disruptor = Disruptor.builder()
+                .listener(recorder)
+                .group("group", group -> group.config(DisruptionTrigger.random(1f), config -> config.disruptions(ctx -> {
+                })))
+                .build();
+        recorder.close();
+
+        // Act
+        disruptor.disrupt("group", DisruptionMode.BEFORE);
+
+        // Assert
+        assertThat(recorder.overflowCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void Group_Rebound_EventsKeepTypeOfTheirBinding() {
+        // Arrange
+        final List<DisruptionEvent> events = new CopyOnWriteArrayList<>();
+        final DisruptionEventRecorder recorder = DisruptionEventRecorder.start(events::add);
+        final GroupListener previous = recorder.group("group", DisruptorGroup.builder()
+                .config(DisruptionTrigger.random(1f), config -> config.throwStackless("test"))
+                .build());
+        final GroupListener current = recorder.group("group", DisruptorGroup.builder()
+                .config(DisruptionTrigger.random(1f), config -> config.disruptions(ctx -> {
+                }).throwStackless("test"))
+                .build());
+
+        // Act
+        previous.disrupted(0, 0, 0L, null);
+        current.disrupted(0, 0, 0L, null);
+        current.disrupted(0, 1, 0L, null);
+        recorder.close();
+
+        // Assert
+        assertThat(events).hasSize(3);
+        assertThat(events.get(0).group()).isEqualTo("group");
+        assertThat(events.get(0).type()).isEqualTo("exception");
+        assertThat(events.get(1).type()).isEqualTo("custom");
+        assertThat(events.get(2).type()).isEqualTo("exception");
+    }
+
+    @Test
+    void Record_SinkThrowsError_KeepsDraining() {
+        // Arrange
+        final List<DisruptionEvent> events = new CopyOnWriteArrayList<>();
+        final DisruptionEventRecorder recorder = DisruptionEventRecorder.start(event -> {
+            if (events.isEmpty()) {
+                events.add(event);
+                throw new AssertionError("test");
+            }
+            events.add(event);
+        });
+        final GroupListener listener = recorder.group("group", DisruptorGroup.builder()
+                .config(DisruptionTrigger.random(1f), config -> config.disruptions(ctx -> {
+                }))
+                .build());
+
+        // Act
+        listener.disrupted(0, 0, 0L, null);
+        listener.disrupted(0, 0, 0L, null);
+        recorder.close();
+
+        // Assert
+        assertThat(events).hasSize(2);
+        assertThat(recorder.overflowCount()).isEqualTo(0L);
+    }
+}
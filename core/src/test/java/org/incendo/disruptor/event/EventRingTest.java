@@ -0,0 +1,70 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class EventRingTest {
+
+    @Test
+    void Offer_Full_RejectsEvent() {
+        // Arrange
+        final EventRing ring = new EventRing(2 /* capacity */);
+
+        // Act
+        final boolean first = ring.offer(1L, 0, 0, 0, 0, 10L, false);
+        final boolean second = ring.offer(2L, 0, 0, 1, 0, 20L, false);
+        final boolean third = ring.offer(3L, 0, 0, 2, 0, 30L, false);
+
+        // Assert
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+    }
+
+    @Test
+    void Drain_ConsumesEventsInOrderAndFreesSlots() {
+        // Arrange
+        final EventRing ring = new EventRing(3 /* capacity */);
+        final List<Long> timestamps = new ArrayList<>();
+        for (long i = 0; i < ring.capacity(); i++) {
+            ring.offer(i, 0, 0, 0, 0, 0L, false);
+        }
+
+        // Act
+        final int drained = ring.drain((timestamp, group, config, disruption, type, duration, failed) -> timestamps.add(timestamp), 2);
+        final boolean offered = ring.offer(4L, 0, 0, 0, 0, 0L, true);
+        ring.drain((timestamp, group, config, disruption, type, duration, failed) -> timestamps.add(timestamp), Integer.MAX_VALUE);
+
+        // Assert
+        assertThat(ring.capacity()).isEqualTo(4);
+        assertThat(drained).isEqualTo(2);
+        assertThat(offered).isTrue();
+        assertThat(timestamps).containsExactly(0L, 1L, 2L, 3L, 4L).inOrder();
+    }
+}
@@ -0,0 +1,116 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.jfr;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.incendo.disruptor.DisruptionMode;
+import org.incendo.disruptor.Disruptor;
+import org.incendo.disruptor.trigger.DisruptionTrigger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JfrDisruptorListenerTest {
+
+    private static final Duration DELAY = Duration.ofMillis(50L);
+
+    @Test
+    void Disrupt_EmitsTriggerAndDisruptionEvents(@TempDir final Path directory) throws IOException {
+        // Arrange
+        final Path file = directory.resolve("recording.jfr");
+        try (JfrDisruptorListener listener = new JfrDisruptorListener(); Recording recording = new Recording()) {
+            recording.enable("org.incendo.disruptor.Trigger");
+            recording.enable("org.incendo.disruptor.Disruption");
+            final Disruptor disruptor = Disruptor.builder()
+                    .listener(listener)
+                    .group("group", group -> group
+                            .config(DisruptionTrigger.never(), config -> config.throwStackless("never"))
+                            .config(DisruptionTrigger.random(1f), config -> config.mode(DisruptionMode.AFTER)
+                                    .throwStackless("test")))
+                    .build();
+            recording.start();
+
+            // Act
+            assertThrows(RuntimeException.class, () -> disruptor.disrupt("group", DisruptionMode.AFTER));
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // Assert
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        final RecordedEvent trigger = events.stream()
+                .filter(event -> event.getEventType().getName().equals("org.incendo.disruptor.Trigger"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(trigger.getString("group")).isEqualTo("group");
+        assertThat(trigger.getInt("config")).isEqualTo(1);
+        assertThat(trigger.getString("mode")).isEqualTo("AFTER");
+        final RecordedEvent disruption = events.stream()
+                .filter(event -> event.getEventType().getName().equals("org.incendo.disruptor.Disruption"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(disruption.getInt("config")).isEqualTo(1);
+        assertThat(disruption.getString("type")).isEqualTo("exception");
+        assertThat(disruption.getBoolean("failed")).isTrue();
+    }
+
+    @Test
+    void Disrupt_Delay_EventSpansDisruption(@TempDir final Path directory) throws IOException {
+        // Arrange
+        final Path file = directory.resolve("recording.jfr");
+        final Instant after;
+        try (JfrDisruptorListener listener = new JfrDisruptorListener(); Recording recording = new Recording()) {
+            recording.enable("org.incendo.disruptor.Disruption");
+            final Disruptor disruptor = Disruptor.builder()
+                    .listener(listener)
+                    .group("group", group -> group.config(DisruptionTrigger.random(1f), config -> config.delay(DELAY)))
+                    .build();
+            recording.start();
+
+            // Act
+            disruptor.disrupt("group", DisruptionMode.BEFORE);
+            after = Instant.now();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // Assert
+        final RecordedEvent disruption = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("org.incendo.disruptor.Disruption"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(disruption.getDuration()).isAtLeast(DELAY);
+        assertThat(disruption.getStartTime()).isLessThan(after.minus(DELAY));
+        assertThat(disruption.getString("type")).isEqualTo("delay");
+    }
+}
@@ -0,0 +1,164 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import org.incendo.disruptor.DisruptionMode;
+import org.incendo.disruptor.Disruptor;
+import org.incendo.disruptor.DisruptorGroup;
+import org.incendo.disruptor.ReloadableDisruptor;
+import org.incendo.disruptor.trigger.DisruptionTrigger;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DisruptorMetricsTest {
+
+    @Test
+    void Disrupt_CountsEvaluationsTriggersAndDisruptions() {
+        // Arrange
+        final DisruptorMetrics metrics = new DisruptorMetrics();
+        final Disruptor disruptor = Disruptor.builder()
+                .listener(metrics)
+                .group("group", group -> group
+                        .config(DisruptionTrigger.counting(2), config -> config.disruptions(ctx -> {}))
+                        .config(DisruptionTrigger.never(), config -> config.mode(DisruptionMode.AFTER)
+                                .disruptions(ctx -> {})))
+                .build();
+
+        // Act
+        for (int i = 0; i < 4; i++) {
+            disruptor.disruptWithoutResult("group", () -> {});
+        }
+
+        // Assert
+        final GroupMetrics groupMetrics = metrics.group("group").orElseThrow();
+        assertThat(groupMetrics.configs()).hasSize(2);
+
+        final ConfigMetrics before = groupMetrics.configs().get(0);
+        assertThat(before.mode()).isEqualTo(DisruptionMode.BEFORE);
+        assertThat(before.evaluations()).isEqualTo(4);
+        assertThat(before.triggers()).isEqualTo(2);
+        assertThat(before.disruptions().get(0).type()).isEqualTo("custom");
+        assertThat(before.disruptions().get(0).executions()).isEqualTo(2);
+
+        final ConfigMetrics after = groupMetrics.configs().get(1);
+        assertThat(after.evaluations()).isEqualTo(4);
+        assertThat(after.triggers()).isEqualTo(0);
+        assertThat(after.disruptions().get(0).executions()).isEqualTo(0);
+    }
+
+    @Test
+    void Disrupt_ThrowingDisruption_CountsFailures() {
+        // Arrange
+        final DisruptorMetrics metrics = new DisruptorMetrics();
+        final Disruptor disruptor = Disruptor.builder()
+                .listener(metrics)
+                .group("group", group -> group.config(
+                        DisruptionTrigger.random(1f),
+                        config -> config.throwException(ctx -> new RuntimeException("test"))
+                ))
+                .build();
+
+        // Act
+        assertThrows(RuntimeException.class, () -> disruptor.disrupt("group", DisruptionMode.BEFORE));
+        assertThrows(
+                CompletionException.class,
+                () -> disruptor.disruptAsync("group", DisruptionMode.BEFORE).toCompletableFuture().join()
+        );
+
+        // Assert
+        final DisruptionMetrics disruptionMetrics = metrics.group("group").orElseThrow().configs().get(0)
+                .disruptions().get(0);
+        assertThat(disruptionMetrics.type()).isEqualTo("exception");
+        assertThat(disruptionMetrics.executions()).isEqualTo(2);
+        assertThat(disruptionMetrics.failures()).isEqualTo(2);
+    }
+
+    @Test
+    void Disrupt_UnknownGroup_HasNoMetrics() {
+        // Arrange
+        final DisruptorMetrics metrics = new DisruptorMetrics();
+        final Disruptor disruptor = Disruptor.builder().listener(metrics).build();
+
+        // Act
+        disruptor.disrupt("group", DisruptionMode.BEFORE);
+
+        // Assert
+        assertThat(metrics.group("group").isPresent()).isFalse();
+        assertThat(metrics.groups()).isEmpty();
+    }
+
+    @Test
+    void Reload_UnchangedGroup_KeepsMetrics() {
+        // Arrange
+        final DisruptorMetrics metrics = new DisruptorMetrics();
+        final List<String> bound = new ArrayList<>();
+        metrics.onGroupBound(groupMetrics -> bound.add(groupMetrics.name()));
+        final DisruptorGroup group = DisruptorGroup.builder()
+                .config(DisruptionTrigger.never(), config -> config.disruptions(ctx -> {}))
+                .build();
+        final ReloadableDisruptor disruptor = Disruptor.builder()
+                .listener(metrics)
+                .group("group", group)
+                .buildReloadable();
+        disruptor.disrupt("group", DisruptionMode.BEFORE);
+        final GroupMetrics before = metrics.group("group").orElseThrow();
+
+        // Act
+        disruptor.reload(Map.of("group", group, "other", DisruptorGroup.builder().build()));
+        disruptor.disrupt("group", DisruptionMode.BEFORE);
+
+        // Assert
+        assertThat(metrics.group("group").orElseThrow()).isSameInstanceAs(before);
+        assertThat(before.configs().get(0).evaluations()).isEqualTo(2);
+        assertThat(bound).containsExactly("group", "other").inOrder();
+    }
+
+    @Test
+    void Reload_ChangedGroup_ReplacesMetrics() {
+        // Arrange
+        final DisruptorMetrics metrics = new DisruptorMetrics();
+        final ReloadableDisruptor disruptor = Disruptor.builder()
+                .listener(metrics)
+                .group("group", group -> group.config(DisruptionTrigger.never(), config -> config.disruptions(ctx -> {})))
+                .buildReloadable();
+        disruptor.disrupt("group", DisruptionMode.BEFORE);
+        final GroupMetrics before = metrics.group("group").orElseThrow();
+
+        // Act
+        disruptor.reload(Map.of("group", DisruptorGroup.builder()
+                .config(DisruptionTrigger.never(), config -> config.disruptions(ctx -> {}))
+                .build()));
+
+        // Assert
+        final GroupMetrics after = metrics.group("group").orElseThrow();
+        assertThat(after).isNotSameInstanceAs(before);
+        assertThat(after.configs().get(0).evaluations()).isEqualTo(0);
+    }
+}
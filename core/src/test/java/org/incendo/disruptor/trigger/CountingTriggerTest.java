@@ -23,6 +23,9 @@
 //
 package org.incendo.disruptor.trigger;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.incendo.disruptor.DisruptorContext;
 import org.junit.jupiter.api.Test;
 
@@ -42,4 +45,44 @@ class CountingTriggerTest {
         assertThat(trigger.shouldTrigger(context)).isTrue();
         assertThat(trigger.shouldTrigger(context)).isFalse();
     }
+
+    @Test
+    void ShouldTrigger_ConcurrentInvocations_TriggersOncePerTarget() throws Exception {
+        // Arrange
+        final DisruptionTrigger trigger = DisruptionTrigger.counting(10 /* targetInvocations */);
+        final DisruptorContext context = DisruptorContext.of("test" /* group */);
+        final AtomicInteger triggered = new AtomicInteger();
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    if (trigger.shouldTrigger(context)) {
+                        triggered.incrementAndGet();
+                    }
+                }
+            }));
+        }
+
+        // Act
+        threads.forEach(Thread::start);
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        // Assert
+        assertThat(triggered.get()).isEqualTo(8 * 10_000 / 10);
+    }
+
+    @Test
+    void ShouldTrigger_Approximate_TriggersAfterTargetInvocationsOnSameThread() {
+        // Arrange
+        final DisruptionTrigger trigger = DisruptionTrigger.approximateCounting(3 /* targetInvocations */);
+        final DisruptorContext context = DisruptorContext.of("test" /* group */);
+
+        // Act & Assert
+        assertThat(trigger.shouldTrigger(context)).isFalse();
+        assertThat(trigger.shouldTrigger(context)).isFalse();
+        assertThat(trigger.shouldTrigger(context)).isTrue();
+        assertThat(trigger.shouldTrigger(context)).isFalse();
+    }
 }
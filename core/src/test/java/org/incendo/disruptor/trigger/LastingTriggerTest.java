@@ -26,6 +26,8 @@ package org.incendo.disruptor.trigger;
 import java.time.Duration;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.incendo.disruptor.DisruptorContext;
+import org.incendo.disruptor.clock.DisruptionClock;
+import org.incendo.disruptor.clock.ManualClock;
 import org.junit.jupiter.api.Test;
 
 import static com.google.common.truth.Truth.assertThat;
@@ -47,4 +49,22 @@ class LastingTriggerTest {
         triggered.set(false);
         assertThat(trigger.shouldTrigger(context)).isTrue();
     }
+
+    @Test
+    void ShouldTrigger_DurationElapsed_StopsTriggering() {
+        // Arrange
+        final AtomicBoolean triggered = new AtomicBoolean(true);
+        final DisruptionTrigger baseTrigger = context -> triggered.get();
+        final DisruptionTrigger trigger = baseTrigger.lasting(Duration.ofMinutes(5L));
+        final ManualClock clock = DisruptionClock.manual();
+        final DisruptorContext context = DisruptorContext.of("test" /* group */, clock);
+
+        // Act & Assert
+        assertThat(trigger.shouldTrigger(context)).isTrue();
+        triggered.set(false);
+        clock.advance(Duration.ofMinutes(4L));
+        assertThat(trigger.shouldTrigger(context)).isTrue();
+        clock.advance(Duration.ofMinutes(1L));
+        assertThat(trigger.shouldTrigger(context)).isFalse();
+    }
 }
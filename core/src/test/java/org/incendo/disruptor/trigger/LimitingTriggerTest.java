@@ -24,7 +24,12 @@
 package org.incendo.disruptor.trigger;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.incendo.disruptor.DisruptorContext;
+import org.incendo.disruptor.clock.DisruptionClock;
+import org.incendo.disruptor.clock.ManualClock;
 import org.junit.jupiter.api.Test;
 
 import static com.google.common.truth.Truth.assertThat;
@@ -44,4 +49,65 @@ class LimitingTriggerTest {
         assertThat(trigger.shouldTrigger(context)).isTrue();
         assertThat(trigger.shouldTrigger(context)).isFalse();
     }
+
+    @Test
+    void ShouldTrigger_PeriodElapsed_RefillsLimit() {
+        // Arrange
+        final DisruptionTrigger baseTrigger = DisruptionTrigger.random(1f /* chance */);
+        final DisruptionTrigger trigger = baseTrigger.limiting(2 /* limit */, Duration.ofMinutes(1L));
+        final ManualClock clock = DisruptionClock.manual();
+        final DisruptorContext context = DisruptorContext.of("test" /* group */, clock);
+
+        // Act & Assert
+        assertThat(trigger.shouldTrigger(context)).isTrue();
+        assertThat(trigger.shouldTrigger(context)).isTrue();
+        assertThat(trigger.shouldTrigger(context)).isFalse();
+        clock.advance(Duration.ofSeconds(30L));
+        assertThat(trigger.shouldTrigger(context)).isTrue();
+        assertThat(trigger.shouldTrigger(context)).isFalse();
+        clock.advance(Duration.ofMinutes(1L));
+        assertThat(trigger.shouldTrigger(context)).isTrue();
+        assertThat(trigger.shouldTrigger(context)).isTrue();
+        assertThat(trigger.shouldTrigger(context)).isFalse();
+    }
+
+    @Test
+    void ShouldTrigger_SmoothMode_SpreadsActivations() {
+        // Arrange
+        final DisruptionTrigger baseTrigger = DisruptionTrigger.random(1f /* chance */);
+        final DisruptionTrigger trigger = baseTrigger.limiting(3 /* limit */, Duration.ofDays(1L), LimitingMode.SMOOTH);
+        final DisruptorContext context = DisruptorContext.of("test" /* group */);
+
+        // Act & Assert
+        assertThat(trigger.shouldTrigger(context)).isTrue();
+        assertThat(trigger.shouldTrigger(context)).isFalse();
+    }
+
+    @Test
+    void ShouldTrigger_ConcurrentInvocations_NeverExceedsLimit() throws Exception {
+        // Arrange
+        final DisruptionTrigger baseTrigger = DisruptionTrigger.random(1f /* chance */);
+        final DisruptionTrigger trigger = baseTrigger.limiting(100 /* limit */, Duration.ofDays(1L));
+        final DisruptorContext context = DisruptorContext.of("test" /* group */);
+        final AtomicInteger triggered = new AtomicInteger();
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < 1_000; j++) {
+                    if (trigger.shouldTrigger(context)) {
+                        triggered.incrementAndGet();
+                    }
+                }
+            }));
+        }
+
+        // Act
+        threads.forEach(Thread::start);
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        // Assert
+        assertThat(triggered.get()).isEqualTo(100);
+    }
 }
@@ -0,0 +1,69 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.trigger;
+
+import org.incendo.disruptor.DisruptorContext;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class RandomTriggerTest {
+
+    @Test
+    void ShouldTrigger_CertainChance_AlwaysTriggers() {
+        // Arrange
+        final DisruptionTrigger trigger = DisruptionTrigger.random(1f /* chance */);
+        final DisruptorContext context = DisruptorContext.of("test" /* group */);
+
+        // Act & Assert
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(trigger.shouldTrigger(context)).isTrue();
+        }
+    }
+
+    @Test
+    void ShouldTrigger_ZeroChance_NeverTriggers() {
+        // Arrange
+        final DisruptionTrigger trigger = DisruptionTrigger.random(0f /* chance */);
+        final DisruptorContext context = DisruptorContext.of("test" /* group */);
+
+        // Act & Assert
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(trigger.shouldTrigger(context)).isFalse();
+        }
+    }
+
+    @Test
+    void ShouldTrigger_SameSeed_ProducesSameSequence() {
+        // Arrange
+        final DisruptionTrigger first = DisruptionTrigger.random(0.5f /* chance */, 1234L /* seed */);
+        final DisruptionTrigger second = DisruptionTrigger.random(0.5f /* chance */, 1234L /* seed */);
+        final DisruptorContext context = DisruptorContext.of("test" /* group */);
+
+        // Act & Assert
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(first.shouldTrigger(context)).isEqualTo(second.shouldTrigger(context));
+        }
+    }
+}
@@ -0,0 +1,131 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.openfeign;
+
+import feign.Response;
+import java.io.IOException;
+import org.apiguardian.api.API;
+import org.incendo.disruptor.DisruptorContext;
+import org.incendo.disruptor.disruption.Disruption;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Disruption that throttles the body of the response to the request that is being disrupted.
+ *
+ * <p>Triggering the disruption only records the throttle in the {@link Scope} that the {@link DisruptorCapability}
+ * opened for the request that is being executed on the current thread, and the body is wrapped by the capability once
+ * the client has returned the response. The disruption does nothing when it is triggered outside of such a scope, for
+ * example through {@link org.incendo.disruptor.Disruptor#disrupt(String, java.util.function.Supplier)} or by an
+ * asynchronous client.</p>
+ *
+ * @param bytesPerSecond       maximum number of bytes per second
+ * @param timeToFirstByteNanos time until the first byte of the body can be read
+ * @since 1.0.0
+ */
+@API(status = API.Status.INTERNAL, since = "1.0.0")
+record BodyThrottle(long bytesPerSecond, long timeToFirstByteNanos) implements Disruption {
+
+    private static final ThreadLocal<@Nullable Scope> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public String type() {
+        return "throttle";
+    }
+
+    @Override
+    public void trigger(final DisruptorContext context) {
+        final Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.throttle = this;
+        }
+    }
+
+    /**
+     * Returns a copy of the given {@code response} with a throttled body.
+     *
+     * @param response response
+     * @return the throttled response
+     * @throws IOException if the body cannot be opened
+     */
+    Response apply(final Response response) throws IOException {
+        final Response.Body body = response.body();
+        if (body == null) {
+            return response;
+        }
+        return response.toBuilder()
+                .body(
+                        new ThrottledInputStream(body.asInputStream(), this.bytesPerSecond, this.timeToFirstByteNanos),
+                        body.length()
+                )
+                .build();
+    }
+
+    /**
+     * Scope of a request executed by the blocking client, which collects the throttle of the disruptions that are
+     * triggered while it is open. Scopes are confined to the thread that opened them, and must be closed by it.
+     *
+     * @since 1.0.0
+     */
+    static final class Scope implements AutoCloseable {
+
+        private final @Nullable Scope previous;
+        private @Nullable BodyThrottle throttle;
+
+        private Scope(final @Nullable Scope previous) {
+            this.previous = previous;
+        }
+
+        /**
+         * Opens a new scope on the current thread.
+         *
+         * @return the scope
+         */
+        static Scope open() {
+            final Scope scope = new Scope(CURRENT.get());
+            CURRENT.set(scope);
+            return scope;
+        }
+
+        /**
+         * Returns the throttle that was triggered while the scope was open.
+         *
+         * @return the throttle, or {@code null} if there is none
+         */
+        @Nullable BodyThrottle throttle() {
+            return this.throttle;
+        }
+
+        /**
+         * Closes the scope, restoring the scope that was open before it.
+         */
+        @Override
+        public void close() {
+            if (this.previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(this.previous);
+            }
+        }
+    }
+}
@@ -23,16 +23,26 @@
 //
 package org.incendo.disruptor.openfeign;
 
+import feign.AsyncClient;
 import feign.Capability;
 import feign.Client;
+import feign.MethodMetadata;
 import feign.Request;
+import feign.RequestTemplate;
 import feign.Response;
 import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import org.apiguardian.api.API;
-import org.incendo.disruptor.DisruptionMode;
 import org.incendo.disruptor.Disruptor;
+import org.incendo.disruptor.DisruptorHandle;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Feign capability which runs {@link Disruptor#disrupt(String, Supplier)} before and after the Feign client has
@@ -45,28 +55,115 @@ import org.incendo.disruptor.Disruptor;
  *   return DisruptorCapability.of(disruptor, group);
  * }}</pre> when using spring-cloud-openfeign.
  *
+ * <p>Clients built using {@link feign.AsyncFeign} are supported as well. Their disruptions are composed onto the future
+ * returned by the {@link AsyncClient}, so delays never block the calling thread and failures complete the future
+ * exceptionally.</p>
+ *
+ * <p>Requests may be routed to different groups per endpoint using {@link #builder(Disruptor)}.</p>
+ *
+ * <p>In addition to the disruptions from the core module, the blocking client supports the disruptions in
+ * {@link FeignDisruptions}.</p>
+ *
  * @since 1.0.0
  */
 @API(status = API.Status.STABLE, since = "1.0.0")
 public final class DisruptorCapability implements Capability {
 
+    private static final int MAX_CACHED_ROUTES = 1024;
+
     /**
-     * Creates a new {@link DisruptorCapability}.
+     * Creates a new {@link DisruptorCapability} that routes all requests to the given {@code group}.
      *
      * @param disruptor disruptor instance
      * @param group disruptor group to use for the Feign clients
      * @return the capability
      */
     public static DisruptorCapability of(final Disruptor disruptor, final String group) {
-        return new DisruptorCapability(disruptor, group);
+        Objects.requireNonNull(group, "group");
+        return builder(disruptor).defaultGroup(group).build();
+    }
+
+    /**
+     * Returns a new builder for a {@link DisruptorCapability} that routes requests to groups per endpoint.
+     *
+     * @param disruptor disruptor instance
+     * @return the builder
+     */
+    public static DisruptorCapabilityBuilder builder(final Disruptor disruptor) {
+        return new DisruptorCapabilityBuilder(disruptor);
     }
 
-    private final Disruptor disruptor;
-    private final String group;
+    private final List<Route> routes;
+    private final @Nullable DisruptorHandle defaultHandle;
+    // Whether any route depends on the host, in which case the host is part of the cache key.
+    private final boolean hostRouted;
+    /**
+     * The resolved handle for each client method and host, or an empty optional if the method should not be disrupted.
+     * Metadata does not override {@link Object#equals(Object)}, and each Feign client has its own metadata instances,
+     * so the routes only have to be evaluated once per client method and host.
+     *
+     * <p>Client methods with a {@link URI} parameter may send requests to any number of hosts, so the cache holds at
+     * most {@link #MAX_CACHED_ROUTES} entries, after which the routes are evaluated for each new host.</p>
+     */
+    private final Map<RouteKey, Optional<DisruptorHandle>> handles = new ConcurrentHashMap<>();
+
+    DisruptorCapability(final List<Route> routes, final @Nullable DisruptorHandle defaultHandle) {
+        this.routes = routes;
+        this.defaultHandle = defaultHandle;
+        this.hostRouted = routes.stream().anyMatch(route -> route.host() != null);
+    }
 
-    private DisruptorCapability(final Disruptor disruptor, final String group) {
-        this.disruptor = Objects.requireNonNull(disruptor, "disruptor");
-        this.group = Objects.requireNonNull(group, "group");
+    private @Nullable DisruptorHandle handle(final Request request) {
+        if (this.routes.isEmpty()) {
+            return this.defaultHandle;
+        }
+        final RequestTemplate template = request.requestTemplate();
+        final MethodMetadata metadata = template == null ? null : template.methodMetadata();
+        if (metadata == null) {
+            // The request was not created by a Feign client method, so there is no path template and nothing to
+            // cache it by.
+            return this.route(null, request.httpMethod(), host(request.url()), null);
+        }
+        // The host is taken from the request rather than from the target, as methods with a URI parameter
+        // may send each request to a different host, and their target does not have a URL.
+        final @Nullable String host = this.hostRouted ? host(request.url()) : null;
+        final RouteKey key = new RouteKey(metadata, host);
+        final @Nullable Optional<DisruptorHandle> cached = this.handles.get(key);
+        if (cached != null) {
+            return cached.orElse(null);
+        }
+        final @Nullable DisruptorHandle handle = this.route(
+                metadata.configKey(),
+                request.httpMethod(),
+                host,
+                metadata.template().path()
+        );
+        if (this.handles.size() < MAX_CACHED_ROUTES) {
+            this.handles.putIfAbsent(key, Optional.ofNullable(handle));
+        }
+        return handle;
+    }
+
+    private @Nullable DisruptorHandle route(
+            final @Nullable String configKey,
+            final Request.HttpMethod method,
+            final @Nullable String host,
+            final @Nullable String path
+    ) {
+        for (final Route route : this.routes) {
+            if (route.matches(configKey, method, host, path)) {
+                return route.handle();
+            }
+        }
+        return this.defaultHandle;
+    }
+
+    private static @Nullable String host(final String url) {
+        try {
+            return URI.create(url).getHost();
+        } catch (final IllegalArgumentException ignored) {
+            return null;
+        }
     }
 
     @Override
@@ -74,6 +171,14 @@ public final class DisruptorCapability implements Capability {
         return new DisruptorClient(client);
     }
 
+    @Override
+    public <C> AsyncClient<C> enrich(final AsyncClient<C> client) {
+        return new DisruptorAsyncClient<>(client);
+    }
+
+    private record RouteKey(MethodMetadata metadata, @Nullable String host) {
+    }
+
     private final class DisruptorClient implements Client {
 
         private final Client client;
@@ -84,10 +189,55 @@ public final class DisruptorCapability implements Capability {
 
         @Override
         public Response execute(final Request request, final Request.Options options) throws IOException {
-            DisruptorCapability.this.disruptor.disrupt(DisruptorCapability.this.group, DisruptionMode.BEFORE);
-            final Response result = this.client.execute(request, options);
-            DisruptorCapability.this.disruptor.disrupt(DisruptorCapability.this.group, DisruptionMode.AFTER);
-            return result;
+            final DisruptorHandle handle = DisruptorCapability.this.handle(request);
+            if (handle == null) {
+                return this.client.execute(request, options);
+            }
+            try (BodyThrottle.Scope scope = BodyThrottle.Scope.open()) {
+                handle.before();
+                final Response result = this.client.execute(request, options);
+                try {
+                    handle.after();
+                    final BodyThrottle throttle = scope.throttle();
+                    return throttle == null ? result : throttle.apply(result);
+                } catch (final Throwable throwable) {
+                    // Nobody will consume the response if the disruption fails.
+                    result.close();
+                    throw throwable;
+                }
+            }
+        }
+    }
+
+    private final class DisruptorAsyncClient<C> implements AsyncClient<C> {
+
+        private final AsyncClient<C> client;
+
+        private DisruptorAsyncClient(final AsyncClient<C> client) {
+            this.client = Objects.requireNonNull(client, "client");
+        }
+
+        @Override
+        public CompletableFuture<Response> execute(
+                final Request request,
+                final Request.Options options,
+                final Optional<C> requestContext
+        ) {
+            final DisruptorHandle handle = DisruptorCapability.this.handle(request);
+            if (handle == null) {
+                return this.client.execute(request, options, requestContext);
+            }
+            return handle.beforeAsync()
+                    .thenCompose(ignored -> this.client.execute(request, options, requestContext))
+                    .thenCompose(response -> handle.afterAsync()
+                            .whenComplete((ignored, throwable) -> {
+                                // Nobody will consume the response if the disruption fails.
+                                if (throwable != null) {
+                                    response.close();
+                                }
+                            })
+                            .thenApply(ignored -> response))
+                    .toCompletableFuture();
         }
     }
 }
@@ -0,0 +1,92 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.openfeign;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import org.apiguardian.api.API;
+import org.incendo.disruptor.Disruptor;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Builder for a {@link DisruptorCapability} that routes the requests to disruptor groups per endpoint.
+ *
+ * <p>The routes are evaluated in the order they were added, and a request is routed to the group of the first
+ * route that matches it. Requests that do not match any route are routed to the {@link #defaultGroup(String)},
+ * or are not disrupted at all if there is no default group.</p>
+ *
+ * @since 1.0.0
+ */
+@API(status = API.Status.STABLE, since = "1.0.0")
+public final class DisruptorCapabilityBuilder {
+
+    private final Disruptor disruptor;
+    private final List<Route> routes = new ArrayList<>();
+    private @Nullable String defaultGroup;
+
+    DisruptorCapabilityBuilder(final Disruptor disruptor) {
+        this.disruptor = Objects.requireNonNull(disruptor, "disruptor");
+    }
+
+    /**
+     * Adds a route to the given {@code group} after letting the given {@code decorator} decorate the route builder.
+     *
+     * @param group     disruptor group to route the matching requests to
+     * @param decorator the decorator
+     * @return {@code this}
+     */
+    public DisruptorCapabilityBuilder route(final String group, final Consumer<DisruptorRouteBuilder> decorator) {
+        Objects.requireNonNull(group, "group");
+        Objects.requireNonNull(decorator, "decorator");
+        final DisruptorRouteBuilder builder = new DisruptorRouteBuilder();
+        decorator.accept(builder);
+        this.routes.add(builder.build(this.disruptor.handle(group)));
+        return this;
+    }
+
+    /**
+     * Sets the group that requests which do not match any route are routed to.
+     *
+     * @param group disruptor group
+     * @return {@code this}
+     */
+    public DisruptorCapabilityBuilder defaultGroup(final String group) {
+        this.defaultGroup = Objects.requireNonNull(group, "group");
+        return this;
+    }
+
+    /**
+     * Build a new {@link DisruptorCapability} instance using {@code this} builder.
+     *
+     * @return the capability
+     */
+    public DisruptorCapability build() {
+        return new DisruptorCapability(
+                List.copyOf(this.routes),
+                this.defaultGroup == null ? null : this.disruptor.handle(this.defaultGroup)
+        );
+    }
+}
@@ -0,0 +1,112 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.openfeign;
+
+import feign.Request;
+import java.util.Objects;
+import org.apiguardian.api.API;
+import org.incendo.disruptor.DisruptorHandle;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Builder for a route, which maps the requests matching all of its criteria to a disruptor group.
+ * A route without any criteria matches every request.
+ *
+ * @since 1.0.0
+ */
+@API(status = API.Status.STABLE, since = "1.0.0")
+public final class DisruptorRouteBuilder {
+
+    private @Nullable String configKey;
+    private Request.@Nullable HttpMethod method;
+    private @Nullable String host;
+    private @Nullable String path;
+
+    DisruptorRouteBuilder() {
+    }
+
+    /**
+     * Only matches requests made by the client method with the given {@code configKey}, such as
+     * {@code OrderClient#create(Order)}.
+     *
+     * @param configKey config key, see {@link feign.Feign#configKey(Class, java.lang.reflect.Method)}
+     * @return {@code this}
+     */
+    public DisruptorRouteBuilder configKey(final String configKey) {
+        this.configKey = Objects.requireNonNull(configKey, "configKey");
+        return this;
+    }
+
+    /**
+     * Only matches requests using the given HTTP {@code method}.
+     *
+     * @param method HTTP method
+     * @return {@code this}
+     */
+    public DisruptorRouteBuilder method(final Request.HttpMethod method) {
+        this.method = Objects.requireNonNull(method, "method");
+        return this;
+    }
+
+    /**
+     * Only matches requests made to the given {@code host}. The host is compared, ignoring case, to the host of the
+     * URL of each request, so that requests of client methods with a {@link java.net.URI} parameter are routed by the
+     * host they are sent to.
+     *
+     * @param host host
+     * @return {@code this}
+     */
+    public DisruptorRouteBuilder host(final String host) {
+        this.host = Objects.requireNonNull(host, "host");
+        return this;
+    }
+
+    /**
+     * Only matches requests whose path matches the given {@code pattern}.
+     *
+     * <p>The pattern is matched against the path template of the client method, such as {@code /orders/{id}}, which
+     * does not include the path of the target URL. Requests that were not made by a client method have no path
+     * template, and never match a route with a path.
+     * {@code *} matches any sequence of characters within a path segment, {@code **} matches any sequence of
+     * characters across path segments and {@code ?} matches a single character within a path segment. Any other
+     * character is matched literally.</p>
+     *
+     * @param pattern path pattern
+     * @return {@code this}
+     */
+    public DisruptorRouteBuilder path(final String pattern) {
+        this.path = Objects.requireNonNull(pattern, "pattern");
+        return this;
+    }
+
+    Route build(final DisruptorHandle handle) {
+        return new Route(
+                handle,
+                this.configKey,
+                this.method,
+                this.host,
+                this.path == null ? null : Route.compileGlob(this.path)
+        );
+    }
+}
@@ -0,0 +1,80 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.openfeign;
+
+import java.time.Duration;
+import java.util.Objects;
+import org.apiguardian.api.API;
+import org.incendo.disruptor.disruption.Disruption;
+
+/**
+ * Disruptions that only apply to requests made by Feign clients using a {@link DisruptorCapability}.
+ *
+ * @since 1.0.0
+ */
+@API(status = API.Status.STABLE, since = "1.0.0")
+public final class FeignDisruptions {
+
+    private FeignDisruptions() {
+    }
+
+    /**
+     * Returns a disruption that limits the rate at which the body of the response can be read to the given
+     * {@code bytesPerSecond}.
+     *
+     * @param bytesPerSecond maximum number of bytes per second, must be positive
+     * @return the disruption
+     * @see #throttlingBody(long, Duration)
+     */
+    public static Disruption throttlingBody(final long bytesPerSecond) {
+        return throttlingBody(bytesPerSecond, Duration.ZERO);
+    }
+
+    /**
+     * Returns a disruption that limits the rate at which the body of the response can be read to the given
+     * {@code bytesPerSecond}, and delays the first byte of the body by {@code timeToFirstByte}.
+     *
+     * <p>The body is read in chunks of at most 50 milliseconds worth of bytes, and the reading thread is parked
+     * between the chunks. The disruption may be used in either {@link org.incendo.disruptor.DisruptionMode}, and it
+     * takes effect once the Feign client has returned the response.</p>
+     *
+     * <p>The body is only throttled for the blocking {@link feign.Client}. The disruptions of asynchronous clients may
+     * run on other threads than the one that receives the response, so the disruption has no effect on requests made
+     * using {@link feign.AsyncFeign}. The disruption has no effect outside of a {@link DisruptorCapability} either.</p>
+     *
+     * @param bytesPerSecond  maximum number of bytes per second, must be positive
+     * @param timeToFirstByte delay until the first byte of the body can be read
+     * @return the disruption
+     */
+    public static Disruption throttlingBody(final long bytesPerSecond, final Duration timeToFirstByte) {
+        Objects.requireNonNull(timeToFirstByte, "timeToFirstByte");
+        if (bytesPerSecond <= 0) {
+            throw new IllegalArgumentException("bytesPerSecond must be positive");
+        }
+        if (timeToFirstByte.isNegative()) {
+            throw new IllegalArgumentException("timeToFirstByte must not be negative");
+        }
+        return new BodyThrottle(bytesPerSecond, timeToFirstByte.toNanos());
+    }
+}
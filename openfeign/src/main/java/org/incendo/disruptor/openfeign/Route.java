@@ -0,0 +1,105 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.openfeign;
+
+import feign.Request;
+import java.util.regex.Pattern;
+import org.apiguardian.api.API;
+import org.incendo.disruptor.DisruptorHandle;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Route compiled from a {@link DisruptorRouteBuilder}.
+ *
+ * @param handle    handle of the group that matching requests are routed to
+ * @param configKey required config key, or {@code null} to match any
+ * @param method    required HTTP method, or {@code null} to match any
+ * @param host      required host, or {@code null} to match any
+ * @param path      required path, or {@code null} to match any
+ * @since 1.0.0
+ */
+@API(status = API.Status.INTERNAL, since = "1.0.0")
+record Route(
+        DisruptorHandle handle,
+        @Nullable String configKey,
+        Request.@Nullable HttpMethod method,
+        @Nullable String host,
+        @Nullable Pattern path
+) {
+
+    /**
+     * Returns whether the route matches an endpoint with the given properties.
+     *
+     * @param configKey config key of the client method, if known
+     * @param method    HTTP method
+     * @param host      host of the request URL, if known
+     * @param path      path template of the client method, if known
+     * @return {@code true} if the route matches
+     */
+    boolean matches(
+            final @Nullable String configKey,
+            final Request.HttpMethod method,
+            final @Nullable String host,
+            final @Nullable String path
+    ) {
+        if (this.configKey != null && !this.configKey.equals(configKey)) {
+            return false;
+        }
+        if (this.method != null && this.method != method) {
+            return false;
+        }
+        if (this.host != null && !this.host.equalsIgnoreCase(host)) {
+            return false;
+        }
+        return this.path == null || (path != null && this.path.matcher(path).matches());
+    }
+
+    static Pattern compileGlob(final String glob) {
+        final StringBuilder regex = new StringBuilder();
+        final StringBuilder literal = new StringBuilder();
+        for (int i = 0; i < glob.length(); i++) {
+            final char character = glob.charAt(i);
+            if (character != '*' && character != '?') {
+                literal.append(character);
+                continue;
+            }
+            if (!literal.isEmpty()) {
+                regex.append(Pattern.quote(literal.toString()));
+                literal.setLength(0);
+            }
+            if (character == '?') {
+                regex.append("[^/]");
+            } else if (i + 1 < glob.length() && glob.charAt(i + 1) == '*') {
+                regex.append(".*");
+                i++;
+            } else {
+                regex.append("[^/]*");
+            }
+        }
+        if (!literal.isEmpty()) {
+            regex.append(Pattern.quote(literal.toString()));
+        }
+        return Pattern.compile(regex.toString());
+    }
+}
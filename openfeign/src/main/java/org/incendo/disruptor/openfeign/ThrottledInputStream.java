@@ -0,0 +1,142 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.openfeign;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.apiguardian.api.API;
+
+/**
+ * Input stream that limits the rate at which the bytes of the wrapped stream can be read.
+ *
+ * <p>Reads are capped to a chunk of at most 1/{@link #CHUNKS_PER_SECOND} of a second worth of bytes, and the
+ * reading thread is parked until the bytes that were read so far are due. The caller's buffer is passed on to the
+ * wrapped stream, so no bytes are copied.</p>
+ *
+ * @since 1.0.0
+ */
+@API(status = API.Status.INTERNAL, since = "1.0.0")
+final class ThrottledInputStream extends FilterInputStream {
+
+    private static final long CHUNKS_PER_SECOND = 20L;
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1L);
+
+    private final long bytesPerSecond;
+    private final int chunkSize;
+    private final long firstByteNanos;
+    private long startNanos;
+    private long bytesRead;
+    private boolean started;
+
+    /**
+     * Creates a new throttled input stream.
+     *
+     * @param in                   wrapped stream
+     * @param bytesPerSecond       maximum number of bytes per second
+     * @param timeToFirstByteNanos time from now until the first byte can be read
+     */
+    ThrottledInputStream(final InputStream in, final long bytesPerSecond, final long timeToFirstByteNanos) {
+        super(in);
+        this.bytesPerSecond = bytesPerSecond;
+        this.chunkSize = (int) Math.max(1L, Math.min(Integer.MAX_VALUE, bytesPerSecond / CHUNKS_PER_SECOND));
+        this.firstByteNanos = System.nanoTime() + timeToFirstByteNanos;
+    }
+
+    @Override
+    public int read() throws IOException {
+        this.start();
+        final int result = super.read();
+        if (result != -1) {
+            this.bytesRead++;
+            this.pace();
+        }
+        return result;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        this.start();
+        final int result = super.read(b, off, Math.min(len, this.chunkSize));
+        if (result > 0) {
+            this.bytesRead += result;
+            this.pace();
+        }
+        return result;
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+        if (n <= 0) {
+            return 0;
+        }
+        this.start();
+        final long result = super.skip(Math.min(n, this.chunkSize));
+        if (result > 0) {
+            this.bytesRead += result;
+            this.pace();
+        }
+        return result;
+    }
+
+    @Override
+    public boolean markSupported() {
+        // Resetting would make the byte count inaccurate.
+        return false;
+    }
+
+    private void start() throws IOException {
+        if (this.started) {
+            return;
+        }
+        this.parkUntil(this.firstByteNanos);
+        this.startNanos = System.nanoTime();
+        this.started = true;
+    }
+
+    private void pace() throws IOException {
+        // The bytes are only handed out once they would have arrived over the throttled link. Multiplying first could
+        // overflow after a few gigabytes, so the whole seconds are computed separately.
+        final long seconds = this.bytesRead / this.bytesPerSecond;
+        final long remainder = this.bytesRead % this.bytesPerSecond;
+        this.parkUntil(this.startNanos + seconds * NANOS_PER_SECOND + remainder * NANOS_PER_SECOND / this.bytesPerSecond);
+    }
+
+    private void parkUntil(final long deadline) throws IOException {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(this, remaining);
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while throttling the response body");
+            }
+        }
+    }
+}
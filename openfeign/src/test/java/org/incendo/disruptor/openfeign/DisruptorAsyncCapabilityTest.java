@@ -0,0 +1,126 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.openfeign;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import com.google.common.base.Throwables;
+import feign.AsyncFeign;
+import feign.RequestLine;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.incendo.disruptor.DisruptionMode;
+import org.incendo.disruptor.Disruptor;
+import org.incendo.disruptor.DisruptorGroup;
+import org.incendo.disruptor.trigger.DisruptionTrigger;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@WireMockTest
+class DisruptorAsyncCapabilityTest {
+
+    @Test
+    void testBefore() {
+        // Arrange
+        final Disruptor disruptor = Disruptor.builder()
+                .group(
+                        "feign",
+                        DisruptorGroup.builder().config(config -> config.mode(DisruptionMode.BEFORE)
+                                .trigger(DisruptionTrigger.random(1.0f))
+                                .throwException(ctx -> new RuntimeException("test"))
+                        ).build()
+                ).build();
+        final AsyncTestTarget client = AsyncFeign.builder()
+                .addCapability(DisruptorCapability.of(disruptor, "feign"))
+                .target(AsyncTestTarget.class, "http://localhost");
+
+        // Act
+        final CompletableFuture<String> future = client.get();
+
+        // Assert
+        final CompletionException exception = assertThrows(CompletionException.class, future::join);
+        assertThat(Throwables.getRootCause(exception)).hasMessageThat().isEqualTo("test");
+    }
+
+    @Test
+    void testAfter(final WireMockRuntimeInfo wireMockRuntimeInfo) {
+        // Arrange
+        WireMock.stubFor(WireMock.get("/").willReturn(WireMock.ok("yay")));
+
+        final Disruptor disruptor = Disruptor.builder()
+                .group(
+                        "feign",
+                        DisruptorGroup.builder().config(config -> config.mode(DisruptionMode.AFTER)
+                                .trigger(DisruptionTrigger.random(1.0f))
+                                .throwException(ctx -> new RuntimeException("test"))
+                        ).build()
+                ).build();
+        final AsyncTestTarget client = AsyncFeign.builder()
+                .addCapability(DisruptorCapability.of(disruptor, "feign"))
+                .target(AsyncTestTarget.class, wireMockRuntimeInfo.getHttpBaseUrl());
+
+        // Act
+        final CompletableFuture<String> future = client.get();
+
+        // Assert
+        final CompletionException exception = assertThrows(CompletionException.class, future::join);
+        assertThat(Throwables.getRootCause(exception)).hasMessageThat().isEqualTo("test");
+        WireMock.verify(1, WireMock.getRequestedFor(WireMock.urlEqualTo("/")));
+    }
+
+    @Test
+    void testDelay(final WireMockRuntimeInfo wireMockRuntimeInfo) {
+        // Arrange
+        WireMock.stubFor(WireMock.get("/").willReturn(WireMock.ok("yay")));
+
+        final Disruptor disruptor = Disruptor.builder()
+                .group(
+                        "feign",
+                        DisruptorGroup.builder().config(config -> config.mode(DisruptionMode.BEFORE)
+                                .trigger(DisruptionTrigger.random(1.0f))
+                                .delay(Duration.ofMillis(500L))
+                        ).build()
+                ).build();
+        final AsyncTestTarget client = AsyncFeign.builder()
+                .addCapability(DisruptorCapability.of(disruptor, "feign"))
+                .target(AsyncTestTarget.class, wireMockRuntimeInfo.getHttpBaseUrl());
+
+        // Act
+        final CompletableFuture<String> future = client.get();
+
+        // Assert
+        assertThat(future.isDone()).isFalse();
+        assertThat(future.join()).isEqualTo("yay");
+    }
+
+    interface AsyncTestTarget {
+
+        @RequestLine("GET /")
+        CompletableFuture<String> get();
+    }
+}
@@ -0,0 +1,212 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.openfeign;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import feign.Feign;
+import feign.Param;
+import feign.Request;
+import feign.RequestLine;
+import feign.Target;
+import java.net.URI;
+import org.incendo.disruptor.Disruptor;
+import org.incendo.disruptor.DisruptorGroup;
+import org.incendo.disruptor.trigger.DisruptionTrigger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@WireMockTest
+class DisruptorCapabilityRoutingTest {
+
+    private Disruptor disruptor;
+
+    @BeforeEach
+    void setup() {
+        WireMock.stubFor(WireMock.any(WireMock.anyUrl()).willReturn(WireMock.ok("yay")));
+
+        this.disruptor = Disruptor.builder()
+                .group("orders", failingGroup("orders"))
+                .group("default", failingGroup("default"))
+                .build();
+    }
+
+    @Test
+    void testMethodAndPath(final WireMockRuntimeInfo wireMockRuntimeInfo) {
+        // Arrange
+        final TestTarget client = Feign.builder()
+                .addCapability(
+                        DisruptorCapability.builder(this.disruptor)
+                                .route("orders", route -> route.method(Request.HttpMethod.POST).path("/orders/**"))
+                                .build()
+                )
+                .target(TestTarget.class, wireMockRuntimeInfo.getHttpBaseUrl());
+
+        // Act & Assert
+        final RuntimeException exception = assertThrows(RuntimeException.class, () -> client.createOrder("id"));
+        assertThat(exception).hasMessageThat().isEqualTo("orders");
+        assertThat(client.getOrder("id")).isEqualTo("yay");
+        assertThat(client.get()).isEqualTo("yay");
+    }
+
+    @Test
+    void testConfigKey(final WireMockRuntimeInfo wireMockRuntimeInfo) {
+        // Arrange
+        final TestTarget client = Feign.builder()
+                .addCapability(
+                        DisruptorCapability.builder(this.disruptor)
+                                .route("orders", route -> route.configKey("TestTarget#getOrder(String)"))
+                                .build()
+                )
+                .target(TestTarget.class, wireMockRuntimeInfo.getHttpBaseUrl());
+
+        // Act & Assert
+        final RuntimeException exception = assertThrows(RuntimeException.class, () -> client.getOrder("id"));
+        assertThat(exception).hasMessageThat().isEqualTo("orders");
+        assertThat(client.createOrder("id")).isEqualTo("yay");
+    }
+
+    @Test
+    void testHost(final WireMockRuntimeInfo wireMockRuntimeInfo) {
+        // Arrange
+        final TestTarget client = Feign.builder()
+                .addCapability(
+                        DisruptorCapability.builder(this.disruptor)
+                                .route("orders", route -> route.host("example.com"))
+                                .route("default", route -> route.host("LOCALHOST"))
+                                .build()
+                )
+                .target(TestTarget.class, wireMockRuntimeInfo.getHttpBaseUrl());
+
+        // Act & Assert
+        final RuntimeException exception = assertThrows(RuntimeException.class, client::get);
+        assertThat(exception).hasMessageThat().isEqualTo("default");
+    }
+
+    @Test
+    void testHost_UriParameter_RoutesEachRequestByItsHost(final WireMockRuntimeInfo wireMockRuntimeInfo) {
+        // Arrange
+        final UriTarget client = Feign.builder()
+                .addCapability(
+                        DisruptorCapability.builder(this.disruptor)
+                                .route("orders", route -> route.host("127.0.0.1"))
+                                .route("default", route -> route.host("localhost"))
+                                .build()
+                )
+                .target(Target.EmptyTarget.create(UriTarget.class));
+        final URI localhost = URI.create("http://localhost:" + wireMockRuntimeInfo.getHttpPort());
+        final URI loopback = URI.create("http://127.0.0.1:" + wireMockRuntimeInfo.getHttpPort());
+
+        // Act & Assert
+        final RuntimeException localhostException = assertThrows(RuntimeException.class, () -> client.get(localhost));
+        assertThat(localhostException).hasMessageThat().isEqualTo("default");
+        final RuntimeException loopbackException = assertThrows(RuntimeException.class, () -> client.get(loopback));
+        assertThat(loopbackException).hasMessageThat().isEqualTo("orders");
+        final RuntimeException repeatedException = assertThrows(RuntimeException.class, () -> client.get(localhost));
+        assertThat(repeatedException).hasMessageThat().isEqualTo("default");
+    }
+
+    @Test
+    void testDefaultGroup(final WireMockRuntimeInfo wireMockRuntimeInfo) {
+        // Arrange
+        final TestTarget client = Feign.builder()
+                .addCapability(
+                        DisruptorCapability.builder(this.disruptor)
+                                .route("orders", route -> route.path("/orders/*"))
+                                .defaultGroup("default")
+                                .build()
+                )
+                .target(TestTarget.class, wireMockRuntimeInfo.getHttpBaseUrl());
+
+        // Act & Assert
+        final RuntimeException ordersException = assertThrows(RuntimeException.class, () -> client.getOrder("id"));
+        assertThat(ordersException).hasMessageThat().isEqualTo("orders");
+        final RuntimeException defaultException = assertThrows(RuntimeException.class, client::get);
+        assertThat(defaultException).hasMessageThat().isEqualTo("default");
+    }
+
+    @Test
+    void testPath_TargetWithBasePath_MatchesPathTemplate(final WireMockRuntimeInfo wireMockRuntimeInfo) {
+        // Arrange
+        final TestTarget client = Feign.builder()
+                .addCapability(
+                        DisruptorCapability.builder(this.disruptor)
+                                .route("orders", route -> route.path("/orders/*"))
+                                .build()
+                )
+                .target(TestTarget.class, wireMockRuntimeInfo.getHttpBaseUrl() + "/api");
+
+        // Act & Assert
+        final RuntimeException exception = assertThrows(RuntimeException.class, () -> client.getOrder("id"));
+        assertThat(exception).hasMessageThat().isEqualTo("orders");
+        assertThat(client.get()).isEqualTo("yay");
+    }
+
+    @Test
+    void testPath_WithoutPathTemplate_DoesNotMatch() {
+        // Arrange
+        final Route route = new DisruptorRouteBuilder().path("/**").build(this.disruptor.handle("orders"));
+
+        // Act & Assert
+        assertThat(route.matches(null, Request.HttpMethod.GET, null, null)).isFalse();
+        assertThat(route.matches(null, Request.HttpMethod.GET, null, "/orders")).isTrue();
+    }
+
+    @Test
+    void testGlob() {
+        assertThat(Route.compileGlob("/orders/*").matcher("/orders/{id}").matches()).isTrue();
+        assertThat(Route.compileGlob("/orders/*").matcher("/orders/{id}/items").matches()).isFalse();
+        assertThat(Route.compileGlob("/orders/**").matcher("/orders/{id}/items").matches()).isTrue();
+        assertThat(Route.compileGlob("/orders/?").matcher("/orders/a").matches()).isTrue();
+        assertThat(Route.compileGlob("/orders.json").matcher("/ordersXjson").matches()).isFalse();
+    }
+
+    private static DisruptorGroup failingGroup(final String message) {
+        return DisruptorGroup.builder().config(config -> config.trigger(DisruptionTrigger.random(1.0f))
+                .throwException(ctx -> new RuntimeException(message))
+        ).build();
+    }
+
+    interface TestTarget {
+
+        @RequestLine("GET /")
+        String get();
+
+        @RequestLine("GET /orders/{id}")
+        String getOrder(@Param("id") String id);
+
+        @RequestLine("POST /orders/{id}")
+        String createOrder(@Param("id") String id);
+    }
+
+    interface UriTarget {
+
+        @RequestLine("GET /")
+        String get(URI host);
+    }
+}
@@ -26,8 +26,13 @@ package org.incendo.disruptor.openfeign;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
 import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import feign.Client;
 import feign.Feign;
 import feign.RequestLine;
+import feign.Response;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.incendo.disruptor.DisruptionMode;
 import org.incendo.disruptor.Disruptor;
 import org.incendo.disruptor.DisruptorGroup;
@@ -88,6 +93,40 @@ class DisruptorCapabilityTest {
         assertThat(exception).hasMessageThat().isEqualTo("test");
     }
 
+    @Test
+    void testAfterClosesResponse() {
+        // Arrange
+        final AtomicBoolean closed = new AtomicBoolean();
+        final Client responseClient = (request, options) -> Response.builder()
+                .status(200)
+                .request(request)
+                .body(new ByteArrayInputStream("\"yay\"".getBytes(StandardCharsets.UTF_8)) {
+                    @Override
+                    public void close() {
+                        closed.set(true);
+                    }
+                }, 5)
+                .build();
+        final Disruptor disruptor = Disruptor.builder()
+                .group(
+                        "feign",
+                        DisruptorGroup.builder().config(config -> config.mode(DisruptionMode.AFTER)
+                                .trigger(DisruptionTrigger.random(1.0f))
+                                .throwException(ctx -> new RuntimeException("test"))
+                        ).build()
+                ).build();
+        final TestTarget client = Feign.builder()
+                .client(responseClient)
+                .addCapability(DisruptorCapability.of(disruptor, "feign"))
+                .target(TestTarget.class, "http://localhost");
+
+        // Act
+        assertThrows(RuntimeException.class, client::get);
+
+        // Assert
+        assertThat(closed.get()).isTrue();
+    }
+
     interface TestTarget {
 
         @RequestLine("GET /")
@@ -0,0 +1,126 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.openfeign;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import feign.Feign;
+import feign.RequestLine;
+import java.time.Duration;
+import org.incendo.disruptor.DisruptionMode;
+import org.incendo.disruptor.Disruptor;
+import org.incendo.disruptor.DisruptorGroup;
+import org.incendo.disruptor.trigger.DisruptionTrigger;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+@WireMockTest
+class FeignDisruptionsTest {
+
+    @Test
+    void testThrottlingBody(final WireMockRuntimeInfo wireMockRuntimeInfo) {
+        // Arrange
+        final String body = "a".repeat(2_000);
+        WireMock.stubFor(WireMock.get("/").willReturn(WireMock.ok(body)));
+
+        final Disruptor disruptor = Disruptor.builder()
+                .group(
+                        "feign",
+                        DisruptorGroup.builder().config(config -> config.mode(DisruptionMode.AFTER)
+                                .trigger(DisruptionTrigger.random(1.0f))
+                                .disruptions(FeignDisruptions.throttlingBody(10_000L, Duration.ofMillis(100L)))
+                        ).build()
+                ).build();
+        final TestTarget client = Feign.builder()
+                .addCapability(DisruptorCapability.of(disruptor, "feign"))
+                .target(TestTarget.class, wireMockRuntimeInfo.getHttpBaseUrl());
+
+        // Act
+        final long start = System.nanoTime();
+        final String result = client.get();
+        final Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // Assert
+        assertThat(result).isEqualTo(body);
+        // 100ms until the first byte, and then 200ms to read 2000 bytes at 10000 bytes per second.
+        assertThat(elapsed).isAtLeast(Duration.ofMillis(300L));
+    }
+
+    @Test
+    void testThrottlingBodyNotTriggered(final WireMockRuntimeInfo wireMockRuntimeInfo) {
+        // Arrange
+        WireMock.stubFor(WireMock.get("/").willReturn(WireMock.ok("a".repeat(2_000))));
+
+        final Disruptor disruptor = Disruptor.builder()
+                .group(
+                        "feign",
+                        DisruptorGroup.builder().config(config -> config.mode(DisruptionMode.AFTER)
+                                .trigger(DisruptionTrigger.never())
+                                .disruptions(FeignDisruptions.throttlingBody(1L))
+                        ).build()
+                ).build();
+        final TestTarget client = Feign.builder()
+                .addCapability(DisruptorCapability.of(disruptor, "feign"))
+                .target(TestTarget.class, wireMockRuntimeInfo.getHttpBaseUrl());
+
+        // Act
+        final long start = System.nanoTime();
+        client.get();
+        final Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // Assert
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(10L));
+    }
+
+    @Test
+    void testThrottlingBodyOnlyRecordedInScope() {
+        // Arrange
+        final Disruptor disruptor = Disruptor.builder()
+                .group(
+                        "direct",
+                        DisruptorGroup.builder().config(config -> config.trigger(DisruptionTrigger.random(1.0f))
+                                .disruptions(FeignDisruptions.throttlingBody(1L))
+                        ).build()
+                ).build();
+
+        // Act & Assert
+        try (BodyThrottle.Scope scope = BodyThrottle.Scope.open()) {
+            disruptor.disrupt("direct", DisruptionMode.BEFORE);
+            assertThat(scope.throttle()).isNotNull();
+        }
+        // Triggered outside a scope, e.g. through the disruptor or an asynchronous client, the throttle does nothing.
+        disruptor.disrupt("direct", DisruptionMode.BEFORE);
+        try (BodyThrottle.Scope scope = BodyThrottle.Scope.open()) {
+            assertThat(scope.throttle()).isNull();
+        }
+    }
+
+    interface TestTarget {
+
+        @RequestLine("GET /")
+        String get();
+    }
+}
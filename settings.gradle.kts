@@ -36,4 +36,7 @@ include(":openfeign")
 findProject(":openfeign")?.name = "disruptor-openfeign"
 
 include(":spring")
-findProject(":spring")?.name = "disruptor-spring"
\ No newline at end of file
+findProject(":spring")?.name = "disruptor-spring"
+
+include(":benchmarks")
+findProject(":benchmarks")?.name = "disruptor-benchmarks"
\ No newline at end of file
@@ -15,8 +15,12 @@ tasks.named<BootJar>("bootJar") {
 dependencies {
     api(projects.disruptor.disruptorCore)
     implementation(libs.spring.boot.autoconfigure)
+    compileOnly(libs.reactor.core)
+    compileOnly(libs.micrometer.core)
 
     testImplementation(libs.spring.boot.starter.test)
+    testImplementation(libs.reactor.core)
+    testImplementation(libs.micrometer.core)
 }
 
 tasks.named<Test>("test") {
@@ -0,0 +1,107 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.spring;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import org.aopalliance.intercept.MethodInvocation;
+import org.apiguardian.api.API;
+import org.incendo.disruptor.DisruptorHandle;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Disrupts invocations of methods that return a {@link CompletionStage} or a {@link CompletableFuture}.
+ *
+ * <p>The disruptions are composed onto the returned stage. The {@link org.incendo.disruptor.DisruptionMode#BEFORE}
+ * disruptions are started before the method is invoked, and the {@link org.incendo.disruptor.DisruptionMode#AFTER}
+ * disruptions run once the stage returned by the method completes. The disruptions are invoked asynchronously, which
+ * means that delays never block the invoking thread and that failures complete the returned stage exceptionally.</p>
+ *
+ * <p>The method is always invoked on the invoking thread, so that the state bound to it, such as transactions, the
+ * security context or the current invocation of the interceptor chain, is available to the method and to the
+ * interceptors after this one. If a {@code BEFORE} disruption fails right away, the method is not invoked. If the
+ * {@code BEFORE} disruptions are still running, for example because of a delay, the method is invoked right away and
+ * the returned stage only completes once they are over, failing if they fail.</p>
+ *
+ * @since 1.0.0
+ */
+@API(status = API.Status.INTERNAL, since = "1.0.0")
+final class AsyncInvocationDisruptor implements InvocationDisruptor {
+
+    private static final AsyncInvocationDisruptor COMPLETION_STAGE = new AsyncInvocationDisruptor(false);
+    private static final AsyncInvocationDisruptor COMPLETABLE_FUTURE = new AsyncInvocationDisruptor(true);
+
+    private final boolean completableFuture;
+
+    private AsyncInvocationDisruptor(final boolean completableFuture) {
+        this.completableFuture = completableFuture;
+    }
+
+    /**
+     * Returns the disruptor for methods with the given {@code returnType}, if the return type is asynchronous.
+     *
+     * @param returnType method return type
+     * @return the disruptor, or {@code null} if the return type is not asynchronous
+     */
+    static @Nullable InvocationDisruptor forReturnType(final Class<?> returnType) {
+        // We return a CompletableFuture, so the declared type needs to be able to hold one.
+        if (!CompletionStage.class.isAssignableFrom(returnType) || !returnType.isAssignableFrom(CompletableFuture.class)) {
+            return null;
+        }
+        return returnType == CompletionStage.class ? COMPLETION_STAGE : COMPLETABLE_FUTURE;
+    }
+
+    @Override
+    public Object disrupt(final DisruptorHandle handle, final MethodInvocation invocation) {
+        final CompletableFuture<Void> before = handle.beforeAsync().toCompletableFuture();
+        final CompletionStage<Object> invoked;
+        if (before.isCompletedExceptionally()) {
+            invoked = before.thenApply(ignored -> null);
+        } else {
+            // Proceeding on the invoking thread keeps its thread-bound state, and a pending delay is composed onto the
+            // returned stage instead.
+            final CompletionStage<Object> proceeded = proceed(invocation);
+            invoked = before.thenCompose(ignored -> proceeded);
+        }
+        final CompletionStage<Object> result = invoked
+                .thenCompose(value -> handle.afterAsync().thenApply(ignored -> value));
+        if (this.completableFuture) {
+            return result.toCompletableFuture();
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CompletionStage<Object> proceed(final MethodInvocation invocation) {
+        try {
+            final Object result = invocation.proceed();
+            if (result == null) {
+                return CompletableFuture.failedStage(new NullPointerException("The method returned a null stage"));
+            }
+            return (CompletionStage<Object>) result;
+        } catch (final Throwable throwable) {
+            return CompletableFuture.failedStage(throwable);
+        }
+    }
+}
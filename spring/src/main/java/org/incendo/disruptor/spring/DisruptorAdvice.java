@@ -23,20 +23,27 @@
 //
 package org.incendo.disruptor.spring;
 
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
 import org.apiguardian.api.API;
-import org.incendo.disruptor.DisruptionMode;
 import org.incendo.disruptor.Disruptor;
+import org.incendo.disruptor.DisruptorHandle;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.aop.support.AopUtils;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.annotation.Role;
+import org.springframework.core.MethodClassKey;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
 
 import static org.springframework.beans.factory.config.BeanDefinition.ROLE_INFRASTRUCTURE;
 
@@ -47,51 +54,111 @@ import static org.springframework.beans.factory.config.BeanDefinition.ROLE_INFRA
 public class DisruptorAdvice implements MethodInterceptor, ApplicationListener<ApplicationReadyEvent> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DisruptorAdvice.class);
+    private static final boolean REACTOR_PRESENT = ClassUtils.isPresent(
+            "reactor.core.publisher.Mono",
+            DisruptorAdvice.class.getClassLoader()
+    );
 
-    private @Nullable Disruptor disruptor;
+    /**
+     * The disruptor, together with the methods resolved using it. Both are replaced at once, so that an invocation can
+     * never cache a method resolved using a previous disruptor.
+     */
+    private volatile @Nullable State state;
 
     @Override
     public Object invoke(final MethodInvocation invocation) throws Throwable {
-        if (this.disruptor == null) {
+        final State state = this.state;
+        if (state == null) {
             return invocation.proceed();
         }
 
-        // The annotation may either be on the class, or method level.
-        final String group;
-        final Disrupt methodAnnotation = AnnotationUtils.findAnnotation(invocation.getMethod(), Disrupt.class);
-
+        final Method method = invocation.getMethod();
         final Class<?> clazz;
         if (invocation.getThis() != null) {
             clazz = invocation.getThis().getClass();
         } else {
-            clazz = invocation.getMethod().getDeclaringClass();
+            clazz = method.getDeclaringClass();
+        }
+
+        final DisruptedMethod disruptedMethod = state.methods().computeIfAbsent(
+                new MethodClassKey(method, clazz),
+                key -> this.resolveMethod(state.disruptor(), method, clazz)
+        ).orElse(null);
+        if (disruptedMethod == null) {
+            return invocation.proceed();
+        }
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(
+                    "Calling disruptor for method {} in class {} using group {}",
+                    method.getName(),
+                    clazz.getCanonicalName(),
+                    disruptedMethod.handle().group()
+            );
         }
 
-        if (methodAnnotation == null) {
-            final Disrupt classAnnotation = AnnotationUtils.findAnnotation(clazz, Disrupt.class);
-            if (classAnnotation == null) {
-                return invocation.proceed();
+        return disruptedMethod.invocationDisruptor().disrupt(disruptedMethod.handle(), invocation);
+    }
+
+    private Optional<DisruptedMethod> resolveMethod(
+            final Disruptor disruptor,
+            final Method method,
+            final Class<?> clazz
+    ) {
+        // The annotation may either be on the method, or on the class.
+        Disrupt annotation = AnnotationUtils.findAnnotation(method, Disrupt.class);
+        if (annotation == null) {
+            final Method specificMethod = AopUtils.getMostSpecificMethod(method, clazz);
+            if (specificMethod != method) {
+                annotation = AnnotationUtils.findAnnotation(specificMethod, Disrupt.class);
             }
-            group = classAnnotation.group();
-        } else {
-            group = methodAnnotation.group();
+        }
+        if (annotation == null) {
+            annotation = AnnotationUtils.findAnnotation(clazz, Disrupt.class);
+        }
+        if (annotation == null) {
+            return Optional.empty();
         }
 
-        LOGGER.trace(
-                "Calling disruptor for method {} in class {} using group {}",
-                invocation.getMethod().getName(),
-                clazz.getCanonicalName(),
-                group
+        LOGGER.debug(
+                "Resolved disruptor group {} for method {} in class {}",
+                annotation.group(),
+                method.getName(),
+                clazz.getCanonicalName()
         );
+        return Optional.of(new DisruptedMethod(disruptor.handle(annotation.group()), invocationDisruptor(method)));
+    }
 
-        this.disruptor.disrupt(group, DisruptionMode.BEFORE);
-        final Object result = invocation.proceed();
-        this.disruptor.disrupt(group, DisruptionMode.AFTER);
-        return result;
+    private static InvocationDisruptor invocationDisruptor(final Method method) {
+        final InvocationDisruptor async = AsyncInvocationDisruptor.forReturnType(method.getReturnType());
+        if (async != null) {
+            return async;
+        }
+        if (REACTOR_PRESENT) {
+            final InvocationDisruptor reactive = ReactiveInvocationDisruptor.forReturnType(method.getReturnType());
+            if (reactive != null) {
+                return reactive;
+            }
+        }
+        return BlockingInvocationDisruptor.INSTANCE;
     }
 
     @Override
     public void onApplicationEvent(final ApplicationReadyEvent event) {
-        this.disruptor = event.getApplicationContext().getBean(Disruptor.class);
+        this.state = new State(event.getApplicationContext().getBean(Disruptor.class), new ConcurrentHashMap<>());
+    }
+
+    /**
+     * The disruptor and the resolved method for each method and target class, or an empty optional if the method should
+     * not be disrupted. Handles observe changes to the disruptor, so the methods never have to be invalidated for a
+     * given disruptor.
+     *
+     * @param disruptor the disruptor
+     * @param methods   the resolved methods
+     */
+    private record State(Disruptor disruptor, Map<MethodClassKey, Optional<DisruptedMethod>> methods) {
+    }
+
+    private record DisruptedMethod(DisruptorHandle handle, InvocationDisruptor invocationDisruptor) {
     }
 }
@@ -23,27 +23,34 @@
 //
 package org.incendo.disruptor.spring;
 
-import java.util.concurrent.atomic.AtomicBoolean;
 import org.apiguardian.api.API;
 import org.incendo.disruptor.Disruptor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.aop.Pointcut;
 import org.springframework.aop.framework.ProxyFactory;
-import org.springframework.beans.BeansException;
-import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
-import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.stereotype.Component;
-import org.springframework.util.ReflectionUtils;
 
+/**
+ * Post processor that proxies beans with {@link Disrupt} annotations.
+ *
+ * <p>The {@link DisruptorAdvice} is registered using a pointcut that only matches methods that are annotated, or that
+ * belong to an annotated class. Other methods of the proxied beans never reach the advice. Whether a bean class is
+ * eligible for proxying is only determined once per class.</p>
+ *
+ * @since 1.0.0
+ */
 @ConditionalOnBean(Disruptor.class)
 @Component
 @API(status = API.Status.INTERNAL, since = "1.0.0")
-public class DisruptorBeanPostProcessor implements BeanPostProcessor {
+public class DisruptorBeanPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(DisruptorAdvice.class);
-
-    private final DisruptorAdvice disruptorAdvice;
+    private static final Logger LOGGER = LoggerFactory.getLogger(DisruptorBeanPostProcessor.class);
 
     /**
      * Creates a new post processor.
@@ -51,34 +58,16 @@ public class DisruptorBeanPostProcessor implements BeanPostProcessor {
      * @param disruptorAdvice disruptor advice
      */
     public DisruptorBeanPostProcessor(final DisruptorAdvice disruptorAdvice) {
-        this.disruptorAdvice = disruptorAdvice;
+        final Pointcut pointcut = new ComposablePointcut(new AnnotationMatchingPointcut(Disrupt.class, true))
+                .union(new AnnotationMatchingPointcut(null, Disrupt.class, true));
+        this.advisor = new DefaultPointcutAdvisor(pointcut, disruptorAdvice);
+        // Disruptions should happen before any other advice, as if the disruption happened on the way to the bean.
+        this.setBeforeExistingAdvisors(true);
     }
 
     @Override
-    public Object postProcessAfterInitialization(final Object bean, final String beanName) throws BeansException {
-        // If there are no @Disrupt annotations then we're not interested.
-        if (!this.hasDisruptorAnnotation(bean)) {
-            return bean;
-        }
-
-        LOGGER.debug("Creating disruptor proxy for bean {}, class {}", bean, bean.getClass().getCanonicalName());
-
-        // If there are, however, then we want to create a new proxy which invokes the disruptor.
-        final ProxyFactory proxyFactory = new ProxyFactory(bean);
-        proxyFactory.addAdvice(this.disruptorAdvice);
-        return proxyFactory.getProxy(getClass().getClassLoader());
-    }
-
-    private boolean hasDisruptorAnnotation(final Object bean) {
-        if (AnnotationUtils.findAnnotation(bean.getClass(), Disrupt.class) != null) {
-            return true;
-        }
-        final AtomicBoolean annotationPresent = new AtomicBoolean(false);
-        ReflectionUtils.doWithMethods(bean.getClass(), method -> {
-            if (AnnotationUtils.findAnnotation(method, Disrupt.class) != null) {
-                annotationPresent.set(true);
-            }
-        });
-        return annotationPresent.get();
+    protected ProxyFactory prepareProxyFactory(final Object bean, final String beanName) {
+        LOGGER.debug("Creating disruptor proxy for bean {}, class {}", beanName, bean.getClass().getCanonicalName());
+        return super.prepareProxyFactory(bean, beanName);
     }
 }
@@ -0,0 +1,160 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.spring;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.apiguardian.api.API;
+import org.incendo.disruptor.metrics.ConfigMetrics;
+import org.incendo.disruptor.metrics.DisruptionMetrics;
+import org.incendo.disruptor.metrics.DisruptorMetrics;
+import org.incendo.disruptor.metrics.GroupMetrics;
+
+/**
+ * Binds the counters of a {@link DisruptorMetrics} to a Micrometer {@link MeterRegistry}.
+ *
+ * <p>The following meters are registered for each configuration, tagged by {@code group}, {@code config} (the index of
+ * the configuration in the group) and {@code mode}:</p>
+ * <ul>
+ *     <li>{@code disruptor.evaluations}: the number of times that the trigger has been evaluated</li>
+ *     <li>{@code disruptor.triggers}: the number of times that the trigger has fired</li>
+ *     <li>{@code disruptor.disruptions}: the number of disruptions and the time spent in them, additionally tagged by
+ *     {@code disruption} (the index of the disruption in the configuration) and {@code type}</li>
+ *     <li>{@code disruptor.disruption.failures}: the number of disruptions that threw an exception, tagged like
+ *     {@code disruptor.disruptions}</li>
+ * </ul>
+ *
+ * <p>Groups that are bound after the binder has been bound to a registry, such as the groups added by reloading a
+ * {@link org.incendo.disruptor.ReloadableDisruptor}, are registered once they are bound. When a group is bound to a
+ * different {@link org.incendo.disruptor.DisruptorGroup} by a reload, its meters are replaced, and start from zero.</p>
+ *
+ * @since 1.0.0
+ */
+@API(status = API.Status.STABLE, since = "1.0.0")
+public final class DisruptorMeterBinder implements MeterBinder {
+
+    private final DisruptorMetrics metrics;
+
+    /**
+     * Creates a new binder.
+     *
+     * @param metrics metrics to bind
+     */
+    public DisruptorMeterBinder(final DisruptorMetrics metrics) {
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        final Registrations registrations = new Registrations(registry);
+        // The consumer is registered first so that no group is missed, which means that a group may be seen twice.
+        this.metrics.onGroupBound(registrations::register);
+        this.metrics.groups().values().forEach(registrations::register);
+    }
+
+    private static List<Meter> register(final MeterRegistry registry, final GroupMetrics group) {
+        final List<Meter> meters = new ArrayList<>();
+        final List<ConfigMetrics> configs = group.configs();
+        for (int i = 0; i < configs.size(); i++) {
+            final ConfigMetrics config = configs.get(i);
+            final Tags configTags = Tags.of(
+                    "group", group.name(),
+                    "config", Integer.toString(i),
+                    "mode", config.mode().name()
+            );
+
+            meters.add(FunctionCounter.builder("disruptor.evaluations", config, ConfigMetrics::evaluations)
+                    .description("Number of times that the trigger of the configuration has been evaluated")
+                    .tags(configTags)
+                    .register(registry));
+            meters.add(FunctionCounter.builder("disruptor.triggers", config, ConfigMetrics::triggers)
+                    .description("Number of times that the trigger of the configuration has fired")
+                    .tags(configTags)
+                    .register(registry));
+
+            final List<DisruptionMetrics> disruptions = config.disruptions();
+            for (int j = 0; j < disruptions.size(); j++) {
+                final DisruptionMetrics disruption = disruptions.get(j);
+                final Tags disruptionTags = configTags.and(
+                        "disruption", Integer.toString(j),
+                        "type", disruption.type()
+                );
+
+                meters.add(FunctionTimer.builder(
+                                "disruptor.disruptions",
+                                disruption,
+                                DisruptionMetrics::executions,
+                                DisruptionMetrics::totalNanos,
+                                TimeUnit.NANOSECONDS
+                        )
+                        .description("Disruptions that have been executed, and the time spent in them")
+                        .tags(disruptionTags)
+                        .register(registry));
+                meters.add(FunctionCounter.builder("disruptor.disruption.failures", disruption, DisruptionMetrics::failures)
+                        .description("Number of disruptions that threw an exception")
+                        .tags(disruptionTags)
+                        .register(registry));
+            }
+        }
+        return meters;
+    }
+
+    /**
+     * The meters registered in a single registry, by group name.
+     */
+    private static final class Registrations {
+
+        private final MeterRegistry registry;
+        private final Map<String, Registration> groups = new HashMap<>();
+
+        private Registrations(final MeterRegistry registry) {
+            this.registry = registry;
+        }
+
+        private synchronized void register(final GroupMetrics group) {
+            final Registration previous = this.groups.get(group.name());
+            if (previous != null) {
+                if (previous.metrics() == group) {
+                    return;
+                }
+                // The registry would return the existing meters, which are bound to the previous metrics.
+                previous.meters().forEach(this.registry::remove);
+            }
+            this.groups.put(group.name(), new Registration(group, DisruptorMeterBinder.register(this.registry, group)));
+        }
+    }
+
+    private record Registration(GroupMetrics metrics, List<Meter> meters) {
+    }
+}
@@ -0,0 +1,52 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.spring;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apiguardian.api.API;
+import org.incendo.disruptor.metrics.DisruptorMetrics;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Registers a {@link DisruptorMeterBinder} if Micrometer is on the classpath and there is a {@link DisruptorMetrics}
+ * bean. The metrics bean should also be registered as a listener of the disruptor bean.
+ *
+ * @since 1.0.0
+ */
+@AutoConfiguration
+@ConditionalOnClass(MeterBinder.class)
+@ConditionalOnBean(DisruptorMetrics.class)
+@API(status = API.Status.INTERNAL, since = "1.0.0")
+public class DisruptorMetricsAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    DisruptorMeterBinder disruptorMeterBinder(final DisruptorMetrics metrics) {
+        return new DisruptorMeterBinder(metrics);
+    }
+}
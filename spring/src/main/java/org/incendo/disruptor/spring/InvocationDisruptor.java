@@ -0,0 +1,48 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.spring;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.apiguardian.api.API;
+import org.incendo.disruptor.DisruptorHandle;
+
+/**
+ * Strategy that disrupts the invocation of a method, picked based on the return type of the method.
+ *
+ * @since 1.0.0
+ */
+@API(status = API.Status.INTERNAL, since = "1.0.0")
+interface InvocationDisruptor {
+
+    /**
+     * Proceeds with the given {@code invocation}, invoking the disruptions of the given {@code handle}
+     * before and after.
+     *
+     * @param handle     disruptor handle
+     * @param invocation method invocation
+     * @return the result of the invocation
+     * @throws Throwable if the invocation or a disruption fails
+     */
+    Object disrupt(DisruptorHandle handle, MethodInvocation invocation) throws Throwable;
+}
@@ -0,0 +1,106 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.spring;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.apiguardian.api.API;
+import org.incendo.disruptor.DisruptorHandle;
+import org.jspecify.annotations.Nullable;
+import org.reactivestreams.Publisher;
+import org.springframework.aop.ProxyMethodInvocation;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Disrupts invocations of methods that return a {@link Mono} or a {@link Flux}.
+ *
+ * <p>The disruptions are part of the returned publisher, so nothing happens until it is subscribed to. The
+ * {@link org.incendo.disruptor.DisruptionMode#BEFORE} disruptions run before the method is invoked, and the
+ * {@link org.incendo.disruptor.DisruptionMode#AFTER} disruptions run once the publisher completes. The disruptions
+ * are invoked asynchronously, which means that delays never block the subscribing thread and that failures are
+ * emitted as error signals.</p>
+ *
+ * <p>This class must only be loaded if Reactor is present on the classpath.</p>
+ *
+ * @since 1.0.0
+ */
+@API(status = API.Status.INTERNAL, since = "1.0.0")
+final class ReactiveInvocationDisruptor implements InvocationDisruptor {
+
+    private static final ReactiveInvocationDisruptor MONO = new ReactiveInvocationDisruptor(true);
+    private static final ReactiveInvocationDisruptor FLUX = new ReactiveInvocationDisruptor(false);
+
+    private final boolean mono;
+
+    private ReactiveInvocationDisruptor(final boolean mono) {
+        this.mono = mono;
+    }
+
+    /**
+     * Returns the disruptor for methods with the given {@code returnType}, if the return type is reactive.
+     *
+     * @param returnType method return type
+     * @return the disruptor, or {@code null} if the return type is not reactive
+     */
+    static @Nullable InvocationDisruptor forReturnType(final Class<?> returnType) {
+        if (Mono.class.isAssignableFrom(returnType)) {
+            return MONO;
+        }
+        // We return a Flux for any other publisher, so the declared type needs to be able to hold one.
+        if (Publisher.class.isAssignableFrom(returnType) && returnType.isAssignableFrom(Flux.class)) {
+            return FLUX;
+        }
+        return null;
+    }
+
+    @Override
+    public Object disrupt(final DisruptorHandle handle, final MethodInvocation invocation) {
+        final Mono<Void> before = Mono.fromCompletionStage(handle::beforeAsync);
+        final Mono<Void> after = Mono.fromCompletionStage(handle::afterAsync);
+
+        if (this.mono) {
+            final Mono<Object> source = Mono.defer(() -> Mono.from(proceed(invocation)));
+            return before.then(source)
+                    .flatMap(after::thenReturn)
+                    .switchIfEmpty(after.then(Mono.empty()));
+        }
+
+        final Flux<Object> source = Flux.defer(() -> proceed(invocation));
+        return before.thenMany(source)
+                .concatWith(after.then(Mono.empty()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Publisher<Object> proceed(final MethodInvocation invocation) {
+        try {
+            // The publisher may be subscribed to more than once, so each subscription needs its own invocation.
+            final MethodInvocation subscription = invocation instanceof ProxyMethodInvocation proxyMethodInvocation
+                    ? proxyMethodInvocation.invocableClone()
+                    : invocation;
+            return (Publisher<Object>) subscription.proceed();
+        } catch (final Throwable throwable) {
+            return Mono.error(throwable);
+        }
+    }
+}
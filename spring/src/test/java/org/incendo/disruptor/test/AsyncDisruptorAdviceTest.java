@@ -0,0 +1,87 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class AsyncDisruptorAdviceTest {
+
+    @Autowired private AsyncService asyncService;
+
+    @BeforeEach
+    void setup() {
+        this.asyncService.reset();
+    }
+
+    @Test
+    void futureBefore() {
+        final CompletableFuture<String> future = this.asyncService.futureBefore();
+
+        final CompletionException completionException = assertThrows(CompletionException.class, future::join);
+        assertThat(completionException).hasCauseThat().hasMessageThat().isEqualTo("before");
+        assertThat(this.asyncService.invocations()).isEqualTo(0);
+    }
+
+    @Test
+    void stageAfter() {
+        final CompletableFuture<String> source = new CompletableFuture<>();
+        final CompletableFuture<String> future = this.asyncService.stageAfter(source).toCompletableFuture();
+        assertThat(this.asyncService.invocations()).isEqualTo(1);
+        assertThat(future.isDone()).isFalse();
+
+        source.complete("value");
+
+        final CompletionException completionException = assertThrows(CompletionException.class, future::join);
+        assertThat(completionException).hasCauseThat().hasMessageThat().isEqualTo("after");
+    }
+
+    @Test
+    void futureDelay() {
+        final CompletionStage<String> stage = this.asyncService.futureDelay();
+        assertThat(stage.toCompletableFuture().isDone()).isFalse();
+
+        assertThat(stage.toCompletableFuture().join()).isEqualTo("value");
+        assertThat(this.asyncService.invocations()).isEqualTo(1);
+    }
+
+    @Test
+    void futureDelayProceedsOnInvokingThread() {
+        final CompletableFuture<Thread> future = this.asyncService.futureDelayThread();
+        // The method and the interceptors after the advice run on the invoking thread, with its thread-bound state.
+        assertThat(this.asyncService.invocations()).isEqualTo(1);
+        assertThat(future.isDone()).isFalse();
+
+        assertThat(future.join()).isSameInstanceAs(Thread.currentThread());
+    }
+}
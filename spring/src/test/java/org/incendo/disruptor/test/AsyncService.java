@@ -0,0 +1,68 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.incendo.disruptor.spring.Disrupt;
+import org.springframework.stereotype.Service;
+
+@Service
+public class AsyncService {
+
+    private final AtomicInteger invocations = new AtomicInteger();
+
+    @Disrupt("before")
+    public CompletableFuture<String> futureBefore() {
+        this.invocations.incrementAndGet();
+        return CompletableFuture.completedFuture("value");
+    }
+
+    @Disrupt("after")
+    public CompletionStage<String> stageAfter(final CompletableFuture<String> future) {
+        this.invocations.incrementAndGet();
+        return future;
+    }
+
+    @Disrupt("delay")
+    public CompletableFuture<String> futureDelay() {
+        this.invocations.incrementAndGet();
+        return CompletableFuture.completedFuture("value");
+    }
+
+    @Disrupt("delay")
+    public CompletableFuture<Thread> futureDelayThread() {
+        this.invocations.incrementAndGet();
+        return CompletableFuture.completedFuture(Thread.currentThread());
+    }
+
+    public int invocations() {
+        return this.invocations.get();
+    }
+
+    public void reset() {
+        this.invocations.set(0);
+    }
+}
@@ -23,9 +23,22 @@
 //
 package org.incendo.disruptor.test;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.incendo.disruptor.Disruptor;
+import org.incendo.disruptor.DisruptorGroup;
+import org.incendo.disruptor.DisruptorHandle;
+import org.incendo.disruptor.spring.DisruptorAdvice;
+import org.incendo.disruptor.trigger.DisruptionTrigger;
 import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.support.GenericApplicationContext;
 
 import static com.google.common.truth.Truth.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -52,4 +65,65 @@ class DisruptorAdviceTest {
         );
         assertThat(runtimeException).hasMessageThat().isEqualTo("class");
     }
+
+    @Test
+    void resolvedHandleIsCachedPerDisruptor() {
+        final CountingDisruptor first = new CountingDisruptor();
+        final CountingDisruptor second = new CountingDisruptor();
+        final DisruptorAdvice advice = new DisruptorAdvice();
+        final ProxyFactory proxyFactory = new ProxyFactory(new TestService());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(advice);
+        final TestService service = (TestService) proxyFactory.getProxy();
+
+        advice.onApplicationEvent(readyEvent(first));
+        assertThrows(RuntimeException.class, service::testMethod);
+        assertThrows(RuntimeException.class, service::testMethod);
+
+        assertThat(first.handles).containsExactly("method");
+
+        // A new disruptor resolves the method again, using the new disruptor.
+        advice.onApplicationEvent(readyEvent(second));
+        assertThrows(RuntimeException.class, service::testMethod);
+
+        assertThat(first.handles).containsExactly("method");
+        assertThat(second.handles).containsExactly("method");
+    }
+
+    private static ApplicationReadyEvent readyEvent(final Disruptor disruptor) {
+        final GenericApplicationContext context = new GenericApplicationContext();
+        context.registerBean(Disruptor.class, () -> disruptor);
+        context.refresh();
+        return new ApplicationReadyEvent(new SpringApplication(), new String[0], context, Duration.ZERO);
+    }
+
+    private static final class CountingDisruptor implements Disruptor {
+
+        private final Disruptor delegate = Disruptor.builder()
+                .group("method", g -> g.config(c -> c.trigger(DisruptionTrigger.random(1f))
+                        .throwException(ctx -> new RuntimeException("method"))))
+                .build();
+        private final List<String> handles = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Optional<DisruptorGroup> group(final String name) {
+            return this.delegate.group(name);
+        }
+
+        @Override
+        public DisruptorHandle handle(final String name) {
+            this.handles.add(name);
+            return this.delegate.handle(name);
+        }
+
+        @Override
+        public boolean enabled() {
+            return this.delegate.enabled();
+        }
+
+        @Override
+        public void enabled(final boolean enabled) {
+            this.delegate.enabled(enabled);
+        }
+    }
 }
@@ -0,0 +1,60 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.test;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.MethodMatcher;
+import org.springframework.aop.PointcutAdvisor;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class DisruptorBeanPostProcessorTest {
+
+    @Autowired private MethodService methodService;
+    @Autowired private UnannotatedService unannotatedService;
+
+    @Test
+    void unannotatedBean() {
+        assertThat(AopUtils.isAopProxy(this.unannotatedService)).isFalse();
+    }
+
+    @Test
+    void methodAnnotatedBean() throws Exception {
+        assertThat(AopUtils.isAopProxy(this.methodService)).isTrue();
+
+        final PointcutAdvisor advisor = (PointcutAdvisor) ((Advised) this.methodService).getAdvisors()[0];
+        final MethodMatcher methodMatcher = advisor.getPointcut().getMethodMatcher();
+        assertThat(methodMatcher.matches(MethodService.class.getMethod("annotatedMethod"), MethodService.class)).isTrue();
+        assertThat(methodMatcher.matches(MethodService.class.getMethod("otherMethod"), MethodService.class)).isFalse();
+
+        assertThrows(RuntimeException.class, () -> this.methodService.annotatedMethod());
+        this.methodService.otherMethod();
+    }
+}
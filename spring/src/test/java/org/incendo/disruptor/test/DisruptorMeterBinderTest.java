@@ -0,0 +1,102 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.test;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import org.incendo.disruptor.Disruptor;
+import org.incendo.disruptor.DisruptorGroup;
+import org.incendo.disruptor.ReloadableDisruptor;
+import org.incendo.disruptor.metrics.DisruptorMetrics;
+import org.incendo.disruptor.spring.DisruptorMeterBinder;
+import org.incendo.disruptor.trigger.DisruptionTrigger;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class DisruptorMeterBinderTest {
+
+    @Test
+    void bindTo() {
+        final DisruptorMetrics metrics = new DisruptorMetrics();
+        final Disruptor disruptor = Disruptor.builder()
+                .listener(metrics)
+                .group("group", group -> group.config(DisruptionTrigger.counting(2), config -> config.disruptions(ctx -> {})))
+                .build();
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new DisruptorMeterBinder(metrics).bindTo(registry);
+
+        for (int i = 0; i < 4; i++) {
+            disruptor.disruptWithoutResult("group", () -> {});
+        }
+
+        final FunctionCounter evaluations = registry.get("disruptor.evaluations")
+                .tags("group", "group", "config", "0", "mode", "BEFORE")
+                .functionCounter();
+        assertThat(evaluations.count()).isEqualTo(4d);
+        assertThat(registry.get("disruptor.triggers").functionCounter().count()).isEqualTo(2d);
+
+        final FunctionTimer disruptions = registry.get("disruptor.disruptions")
+                .tags("disruption", "0", "type", "custom")
+                .functionTimer();
+        assertThat(disruptions.count()).isEqualTo(2d);
+        assertThat(registry.get("disruptor.disruption.failures").functionCounter().count()).isEqualTo(0d);
+    }
+
+    @Test
+    void bindTo_reload() {
+        final DisruptorMetrics metrics = new DisruptorMetrics();
+        final DisruptorGroup group = countingGroup();
+        final ReloadableDisruptor disruptor = Disruptor.builder()
+                .listener(metrics)
+                .group("group", group)
+                .buildReloadable();
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new DisruptorMeterBinder(metrics).bindTo(registry);
+        disruptor.disruptWithoutResult("group", () -> {});
+
+        // Unchanged groups keep their meters, and new groups are registered.
+        disruptor.reload(Map.of("group", group, "other", countingGroup()));
+        disruptor.disruptWithoutResult("group", () -> {});
+        disruptor.disruptWithoutResult("other", () -> {});
+
+        assertThat(registry.get("disruptor.evaluations").tags("group", "group").functionCounter().count()).isEqualTo(2d);
+        assertThat(registry.get("disruptor.evaluations").tags("group", "other").functionCounter().count()).isEqualTo(1d);
+
+        // Changed groups get new meters.
+        disruptor.reload(Map.of("group", countingGroup()));
+        disruptor.disruptWithoutResult("group", () -> {});
+
+        assertThat(registry.find("disruptor.evaluations").tags("group", "group").functionCounters()).hasSize(1);
+        assertThat(registry.get("disruptor.evaluations").tags("group", "group").functionCounter().count()).isEqualTo(1d);
+    }
+
+    private static DisruptorGroup countingGroup() {
+        return DisruptorGroup.builder()
+                .config(DisruptionTrigger.counting(2), config -> config.disruptions(ctx -> {}))
+                .build();
+    }
+}
@@ -0,0 +1,95 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class ReactiveDisruptorAdviceTest {
+
+    @Autowired private ReactiveService reactiveService;
+
+    @BeforeEach
+    void setup() {
+        this.reactiveService.reset();
+    }
+
+    @Test
+    void monoBefore() {
+        final Mono<String> mono = this.reactiveService.monoBefore();
+        assertThat(this.reactiveService.invocations()).isEqualTo(0);
+
+        final RuntimeException runtimeException = assertThrows(RuntimeException.class, mono::block);
+        assertThat(runtimeException).hasMessageThat().isEqualTo("before");
+        assertThat(this.reactiveService.invocations()).isEqualTo(0);
+    }
+
+    @Test
+    void monoAfter() {
+        final Mono<String> mono = this.reactiveService.monoAfter();
+        assertThat(this.reactiveService.invocations()).isEqualTo(0);
+
+        final RuntimeException runtimeException = assertThrows(RuntimeException.class, mono::block);
+        assertThat(runtimeException).hasMessageThat().isEqualTo("after");
+        assertThat(this.reactiveService.invocations()).isEqualTo(1);
+    }
+
+    @Test
+    void monoEmptyAfter() {
+        final Mono<String> mono = this.reactiveService.monoEmptyAfter();
+
+        final RuntimeException runtimeException = assertThrows(RuntimeException.class, mono::block);
+        assertThat(runtimeException).hasMessageThat().isEqualTo("after");
+        assertThat(this.reactiveService.invocations()).isEqualTo(1);
+    }
+
+    @Test
+    void monoResubscribe() {
+        final Mono<String> mono = this.reactiveService.monoAfter();
+
+        assertThrows(RuntimeException.class, mono::block);
+        assertThrows(RuntimeException.class, mono::block);
+        assertThat(this.reactiveService.invocations()).isEqualTo(2);
+    }
+
+    @Test
+    void fluxAfter() {
+        final List<String> values = new ArrayList<>();
+        final Flux<String> flux = this.reactiveService.fluxAfter().doOnNext(values::add);
+
+        final RuntimeException runtimeException = assertThrows(RuntimeException.class, flux::blockLast);
+        assertThat(runtimeException).hasMessageThat().isEqualTo("after");
+        assertThat(values).containsExactly("first", "second").inOrder();
+    }
+}
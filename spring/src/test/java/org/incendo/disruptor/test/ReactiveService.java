@@ -0,0 +1,64 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.disruptor.test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.incendo.disruptor.spring.Disrupt;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+public class ReactiveService {
+
+    private final AtomicInteger invocations = new AtomicInteger();
+
+    @Disrupt("before")
+    public Mono<String> monoBefore() {
+        return Mono.fromSupplier(() -> "value" + this.invocations.incrementAndGet());
+    }
+
+    @Disrupt("after")
+    public Mono<String> monoAfter() {
+        return Mono.fromSupplier(() -> "value" + this.invocations.incrementAndGet());
+    }
+
+    @Disrupt("after")
+    public Mono<String> monoEmptyAfter() {
+        return Mono.fromRunnable(this.invocations::incrementAndGet);
+    }
+
+    @Disrupt("after")
+    public Flux<String> fluxAfter() {
+        return Flux.just("first", "second").doOnSubscribe(subscription -> this.invocations.incrementAndGet());
+    }
+
+    public int invocations() {
+        return this.invocations.get();
+    }
+
+    public void reset() {
+        this.invocations.set(0);
+    }
+}
@@ -23,6 +23,8 @@
 //
 package org.incendo.disruptor.test;
 
+import java.time.Duration;
+import org.incendo.disruptor.DisruptionMode;
 import org.incendo.disruptor.Disruptor;
 import org.incendo.disruptor.trigger.DisruptionTrigger;
 import org.springframework.context.annotation.Bean;
@@ -42,6 +44,19 @@ public class TestConfig {
                         "class",
                         g -> g.config(c -> c.trigger(DisruptionTrigger.random(1f))
                                 .throwException(ctx -> new RuntimeException("class"))))
+                .group(
+                        "before",
+                        g -> g.config(c -> c.trigger(DisruptionTrigger.random(1f))
+                                .throwException(ctx -> new RuntimeException("before"))))
+                .group(
+                        "after",
+                        g -> g.config(c -> c.trigger(DisruptionTrigger.random(1f))
+                                .mode(DisruptionMode.AFTER)
+                                .throwException(ctx -> new RuntimeException("after"))))
+                .group(
+                        "delay",
+                        g -> g.config(c -> c.trigger(DisruptionTrigger.random(1f))
+                                .delay(Duration.ofMillis(500L))))
                 .build();
     }
 }